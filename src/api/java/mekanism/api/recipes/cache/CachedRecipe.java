@@ -119,6 +119,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
      */
     private IntConsumer operatingTicksChanged = ticks -> {
     };
+    /**
+     * Whether the last time this recipe was processed it was unable to perform any operations due to running into errors.
+     */
+    private boolean stalled;
 
     /**
      * @param recipe           Recipe.
@@ -304,8 +308,10 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
             if (tracker.hasErrorsToCopy()) {
                 updateErrors(tracker.errors);
             }
+            stalled = operations <= 0 && !errors.isEmpty();
         } else {
             operations = 0;
+            stalled = false;
             if (!errors.isEmpty()) {
                 updateErrors(Collections.emptySet());
             }
@@ -340,6 +346,31 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe> {
         }
     }
 
+    /**
+     * Checks if the last time this recipe was processed it was unable to perform any operations because of the {@link RecipeError errors} it ran into. As errors
+     * represent missing resources or space, this means that processing again will not be able to perform any operations until the holder's contents change.
+     *
+     * @return {@code true} if processing is stalled by errors.
+     *
+     * @since 10.4.15
+     */
+    public boolean isStalled() {
+        return stalled;
+    }
+
+    /**
+     * Checks if the given error is one of the errors this recipe ran into the last time it calculated its errors.
+     *
+     * @param error Error to check.
+     *
+     * @return {@code true} if the given error was found.
+     *
+     * @since 10.4.15
+     */
+    public boolean hasError(RecipeError error) {
+        return errors.contains(error);
+    }
+
     /**
      * Called to allow recipes to set up any variables they will need this tick to allow them to reduce the number of places they have to recalculate/retrieve a passed in
      * value.
@@ -809,8 +809,20 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_RADIATION_REDUCE_TARGET, "Reduced entity radiation for %1$s by %2$s.");
         add(MekanismLang.COMMAND_RADIATION_REMOVE_ALL, "Removed all radiation sources.");
         add(MekanismLang.COMMAND_RETROGEN_CHUNK_QUEUED, "Queued chunk (%1$s) in %2$s for retrogen.");
+        add(MekanismLang.COMMAND_RETROGEN_STATUS, "Retrogen in %1$s: %2$s chunks queued, %3$s being planned, %4$s waiting to be applied.");
+        add(MekanismLang.COMMAND_RETROGEN_STATUS_PROGRESS, "Retrogenned %1$s chunks at %2$s chunks/s (%3$s ms planning per chunk), changed %4$s blocks and skipped %5$s that changed since planning.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_DISABLED, "Retrogen is disabled, please enable it in the config.");
         add(MekanismLang.COMMAND_ERROR_RETROGEN_FAILURE, "Failed to queue any chunks for retrogen.");
+        add(MekanismLang.COMMAND_TICKS_START, "Started profiling Mekanism tile ticks.");
+        add(MekanismLang.COMMAND_TICKS_STOP, "Stopped profiling Mekanism tile ticks after %1$s seconds.");
+        add(MekanismLang.COMMAND_TICKS_STATUS, "Profiling tile ticks: %1$s. Tile tick budget: %2$s microseconds per tick (0 is unlimited), %3$s tiles were deferred last tick.");
+        add(MekanismLang.COMMAND_TICKS_TOP, "Top %1$s tile ticks over %2$s seconds by %3$s cost:");
+        add(MekanismLang.COMMAND_TICKS_ENTRY, "%1$s: mean %2$s microseconds, max %3$s microseconds, total %4$s ms over %5$s ticks, deferred %6$s ticks.");
+        add(MekanismLang.COMMAND_TICKS_POSITION, "%1$s at %2$s in %3$s");
+        add(MekanismLang.COMMAND_ERROR_TICKS_NO_DATA, "No Mekanism tile ticks have been profiled, use /mek tile_ticks start to start profiling.");
+        add(MekanismLang.COMMAND_SAVES, "Last save of %1$s Mekanism data files:");
+        add(MekanismLang.COMMAND_SAVES_ENTRY, "%1$s: %2$s bytes, %3$s ms on the server thread, %4$s ms writing.");
+        add(MekanismLang.COMMAND_ERROR_SAVES_NO_DATA, "No Mekanism data has been saved yet.");
         //Tooltip stuff
         add(MekanismLang.MODE, "Mode: %1$s");
         add(MekanismLang.FIRE_MODE, "Fire Mode: %1$s");
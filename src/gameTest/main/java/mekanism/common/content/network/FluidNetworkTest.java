@@ -0,0 +1,84 @@
+package mekanism.common.content.network;
+
+import mekanism.common.Mekanism;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tile.TileEntityFluidTank;
+import mekanism.common.tile.transmitter.TileEntityMechanicalPipe;
+import mekanism.common.util.test.GameTestUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class FluidNetworkTest {
+
+    private static final String BASE_PATH = "network/";
+    private static final int SETUP_TICKS = 5;
+    //The structure is a 10x25 layer of pipes with a fluid tank above and below each pipe
+    private static final int WIDTH = 10;
+    private static final int LENGTH = 25;
+    private static final int SAMPLE_TICKS = 20;
+
+    /**
+     * Checks that a network where all the acceptors are full doesn't keep checking every acceptor each tick to see if it can accept fluid.
+     */
+    @GameTest(template = BASE_PATH + "empty_10x3x25", setupTicks = SETUP_TICKS, batch = "3")
+    public static void fullAcceptorsSkipped(GameTestHelper helper) {
+        BlockPos relativePipe = new BlockPos(0, 1, 0);
+        MutableInt checked = new MutableInt();
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  for (int x = 0; x < WIDTH; x++) {
+                      for (int z = 0; z < LENGTH; z++) {
+                          helper.setBlock(new BlockPos(x, 0, z), MekanismBlocks.BASIC_FLUID_TANK.getBlock());
+                          helper.setBlock(new BlockPos(x, 1, z), MekanismBlocks.BASIC_MECHANICAL_PIPE.getBlock());
+                          helper.setBlock(new BlockPos(x, 2, z), MekanismBlocks.BASIC_FLUID_TANK.getBlock());
+                      }
+                  }
+              })
+              //Wait 5 ticks to ensure the network has formed and found all its acceptors
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  helper.forEveryBlockInStructure(relativePos -> {
+                      TileEntityFluidTank tank = GameTestUtils.getBlockEntity(helper, TileEntityFluidTank.class, relativePos);
+                      if (tank != null) {
+                          tank.fluidTank.setStack(new FluidStack(Fluids.WATER, tank.fluidTank.getCapacity()));
+                      }
+                  });
+                  FluidNetwork network = getNetwork(helper, relativePipe);
+                  network.fluidTank.setStack(new FluidStack(Fluids.WATER, network.getCapacityAsInt()));
+              })
+              //Give the network enough time to back off checking the full tanks as much as it will
+              .thenIdle(2 * SAMPLE_TICKS)
+              .thenExecuteFor(SAMPLE_TICKS, () -> checked.add(getNetwork(helper, relativePipe).getCheckedAcceptors()))
+              .thenExecute(() -> {
+                  int acceptors = getNetwork(helper, relativePipe).getAcceptorCount();
+                  if (acceptors != 2 * WIDTH * LENGTH) {
+                      helper.fail("Expected " + 2 * WIDTH * LENGTH + " acceptors but found " + acceptors, relativePipe);
+                  }
+                  double average = checked.doubleValue() / SAMPLE_TICKS;
+                  Mekanism.logger.info("Fluid network with {} full acceptors checked {} acceptors per tick on average.", acceptors, average);
+                  if (average > acceptors / 4D) {
+                      helper.fail("Full acceptors are still being checked every tick, checked " + average + " acceptors per tick on average", relativePipe);
+                  }
+              })
+        );
+    }
+
+    @NotNull
+    private static FluidNetwork getNetwork(GameTestHelper helper, BlockPos relativePos) {
+        TileEntityMechanicalPipe pipe = GameTestUtils.getBlockEntity(helper, TileEntityMechanicalPipe.class, relativePos);
+        if (pipe == null || !pipe.getTransmitter().hasTransmitterNetwork()) {
+            helper.fail("Expected pipe with a network", relativePos);
+        }
+        //noinspection ConstantConditions (can't get here if null as helper#fail throws an exception)
+        return pipe.getTransmitter().getTransmitterNetwork();
+    }
+}
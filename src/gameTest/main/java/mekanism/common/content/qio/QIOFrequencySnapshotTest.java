@@ -0,0 +1,81 @@
+package mekanism.common.content.qio;
+
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismItems;
+import mekanism.common.tile.qio.TileEntityQIODriveArray;
+import mekanism.common.util.test.GameTestUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class QIOFrequencySnapshotTest {
+
+    private static final String TEMPLATE = "network/empty_10x3x25";
+    private static final BlockPos DRIVE_ARRAY = new BlockPos(0, 1, 0);
+
+    /**
+     * Checks that the first snapshot requested from an idle frequency already contains the frequency's items, that published snapshots don't change when the frequency
+     * does, and that the next tick publishes a snapshot with the changes.
+     */
+    @GameTest(template = TEMPLATE, batch = "qio_snapshot")
+    public static void snapshotCapturedOnRequest(GameTestHelper helper) {
+        helper.setBlock(DRIVE_ARRAY, MekanismBlocks.QIO_DRIVE_ARRAY.getBlock());
+        TileEntityQIODriveArray driveArray = GameTestUtils.getBlockEntity(helper, TileEntityQIODriveArray.class, DRIVE_ARRAY);
+        if (driveArray == null) {
+            helper.fail("Expected a QIO drive array", DRIVE_ARRAY);
+        }
+        driveArray.getDriveSlots().get(0).setStack(MekanismItems.BASE_QIO_DRIVE.getItemStack());
+        //Use a frequency that isn't registered with the frequency manager, so that it only ticks when we tick it
+        QIOFrequency frequency = new QIOFrequency("snapshot_test", UUID.randomUUID());
+        frequency.update(driveArray);
+        frequency.addItem(new ItemStack(Items.COBBLESTONE, 64));
+        //Let the frequency go idle, so that nothing has been keeping a snapshot up to date
+        frequency.tick();
+
+        QIOFrequencySnapshot first = frequency.getSnapshot();
+        if (first == QIOFrequencySnapshot.EMPTY) {
+            helper.fail("The first snapshot requested from the frequency was empty", DRIVE_ARRAY);
+        }
+        assertStored(helper, first, Items.COBBLESTONE, 64);
+        if (first.getStacksByModIDWildcard("mine*").isEmpty()) {
+            helper.fail("Expected the snapshot to find cobblestone by its modid", DRIVE_ARRAY);
+        }
+
+        frequency.addItem(new ItemStack(Items.COBBLESTONE, 16));
+        frequency.addItem(new ItemStack(Items.STONE, 8));
+        //Published snapshots are immutable
+        assertStored(helper, first, Items.COBBLESTONE, 64);
+        assertStored(helper, first, Items.STONE, 0);
+        //As a snapshot was requested recently, the next tick publishes the changes
+        frequency.tick();
+        QIOFrequencySnapshot second = frequency.getSnapshot();
+        if (second.getVersion() <= first.getVersion()) {
+            helper.fail("Expected a newer snapshot after the frequency changed, but got version " + second.getVersion() + " after version " + first.getVersion(),
+                  DRIVE_ARRAY);
+        }
+        assertStored(helper, second, Items.COBBLESTONE, 80);
+        assertStored(helper, second, Items.STONE, 8);
+        if (second.getTotalItemCount() != 88 || second.getTotalItemTypes() != 2) {
+            helper.fail("Expected 88 items of 2 types, but the snapshot has " + second.getTotalItemCount() + " items of " + second.getTotalItemTypes() + " types",
+                  DRIVE_ARRAY);
+        }
+        frequency.onDeactivate(driveArray);
+        helper.succeed();
+    }
+
+    private static void assertStored(GameTestHelper helper, QIOFrequencySnapshot snapshot, Item item, long expected) {
+        long stored = snapshot.getStored(new ItemStack(item));
+        if (stored != expected) {
+            helper.fail("Expected " + expected + " " + item + " in snapshot version " + snapshot.getVersion() + ", but found " + stored, DRIVE_ARRAY);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package mekanism.common.tile.factory;
+
+import mekanism.api.Action;
+import mekanism.api.inventory.IInventorySlot;
+import mekanism.common.Mekanism;
+import mekanism.common.content.blocktype.FactoryType;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismGases;
+import mekanism.common.tier.FactoryTier;
+import mekanism.common.util.test.GameTestUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.apache.commons.lang3.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+
+@PrefixGameTestTemplate(false)
+@GameTestHolder(Mekanism.MODID)
+public class FactorySortingTest {
+
+    private static final String TEMPLATE = "network/empty_10x3x25";
+    private static final int SETUP_TICKS = 5;
+    private static final int SAMPLE_TICKS = 20;
+    private static final BlockPos FACTORY = new BlockPos(0, 1, 0);
+
+    /**
+     * Drives an ultimate factory the way a fast pipe would, inserting one item of a single type every tick, and checks that only the slots holding that item get
+     * redistributed rather than every input slot.
+     */
+    @GameTest(template = TEMPLATE, setupTicks = SETUP_TICKS, batch = "factory_sorting")
+    public static void onlyChangedItemResorted(GameTestHelper helper) {
+        MutableInt sorted = new MutableInt();
+        int cobblestoneSlots = 4;
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  TileEntityFactory<?> factory = placeFactory(helper, FactoryType.SMELTING);
+                  for (int i = 0; i < factory.inputSlots.size(); i++) {
+                      factory.inputSlots.get(i).setStack(new ItemStack(i < cobblestoneSlots ? Items.COBBLESTONE : Items.RAW_IRON, 8));
+                  }
+              })
+              //Let the initial sort happen before we start sampling
+              .thenIdle(5)
+              .thenExecuteFor(SAMPLE_TICKS, () -> {
+                  TileEntityFactory<?> factory = getFactory(helper);
+                  for (IInventorySlot inputSlot : factory.inputSlots) {
+                      if (inputSlot.getStack().is(Items.COBBLESTONE)) {
+                          inputSlot.growStack(1, Action.EXECUTE);
+                          break;
+                      }
+                  }
+                  sorted.add(factory.getSortedProcesses());
+              })
+              .thenExecute(() -> {
+                  double average = sorted.doubleValue() / SAMPLE_TICKS;
+                  Mekanism.logger.info("Factory fed one item type every tick redistributed {} processes per tick on average.", average);
+                  if (average > cobblestoneSlots) {
+                      helper.fail("Expected at most " + cobblestoneSlots + " processes to be redistributed per tick, but " + average
+                                  + " were redistributed per tick on average", FACTORY);
+                  }
+              })
+        );
+    }
+
+    /**
+     * Checks that a secondary input that keeps changing without changing which recipe is used doesn't cause the inputs to be redistributed.
+     */
+    @GameTest(template = TEMPLATE, setupTicks = SETUP_TICKS, batch = "factory_sorting")
+    public static void secondaryChangesNotResorted(GameTestHelper helper) {
+        MutableInt sorted = new MutableInt();
+        GameTestUtils.succeedIfSequence(helper, sequence -> sequence
+              .thenExecute(() -> {
+                  TileEntityFactory<?> factory = placeFactory(helper, FactoryType.PURIFYING);
+                  for (int i = 0; i < factory.inputSlots.size(); i++) {
+                      factory.inputSlots.get(i).setStack(new ItemStack(i % 2 == 0 ? Items.RAW_IRON : Items.RAW_GOLD, 8));
+                  }
+                  getGasFactory(helper).gasTank.setStack(MekanismGases.OXYGEN.getStack(1));
+              })
+              .thenIdle(5)
+              .thenExecuteFor(SAMPLE_TICKS, () -> {
+                  TileEntityItemStackGasToItemStackFactory factory = getGasFactory(helper);
+                  factory.gasTank.growStack(1, Action.EXECUTE);
+                  sorted.add(factory.getSortedProcesses());
+              })
+              .thenExecute(() -> {
+                  if (sorted.intValue() > 0) {
+                      helper.fail("Expected no processes to be redistributed when only the secondary input changed, but " + sorted.intValue() + " were", FACTORY);
+                  }
+              })
+        );
+    }
+
+    private static TileEntityFactory<?> placeFactory(GameTestHelper helper, FactoryType type) {
+        helper.setBlock(FACTORY, MekanismBlocks.getFactory(FactoryTier.ULTIMATE, type).getBlock());
+        TileEntityFactory<?> factory = getFactory(helper);
+        if (!factory.isSorting()) {
+            factory.toggleSorting();
+        }
+        return factory;
+    }
+
+    @NotNull
+    private static TileEntityFactory<?> getFactory(GameTestHelper helper) {
+        TileEntityFactory<?> factory = GameTestUtils.getBlockEntity(helper, TileEntityFactory.class, FACTORY);
+        if (factory == null) {
+            helper.fail("Expected a factory", FACTORY);
+        }
+        return factory;
+    }
+
+    private static TileEntityItemStackGasToItemStackFactory getGasFactory(GameTestHelper helper) {
+        return (TileEntityItemStackGasToItemStackFactory) getFactory(helper);
+    }
+}
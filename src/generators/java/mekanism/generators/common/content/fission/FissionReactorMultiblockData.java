@@ -68,10 +68,10 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
 
     public final Set<FormedAssembly> assemblies = new LinkedHashSet<>();
     @ContainerSync(setter = "setAssemblies")
-    @SyntheticComputerMethod(getter = "getFuelAssemblies")
+    @SyntheticComputerMethod(getter = "getFuelAssemblies", cacheableGetter = true)
     private int fuelAssemblies = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getFuelSurfaceArea")
+    @SyntheticComputerMethod(getter = "getFuelSurfaceArea", cacheableGetter = true)
     public int surfaceArea;
 
     @ContainerSync
@@ -79,35 +79,35 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     @ContainerSync
     public VariableCapacityFluidTank fluidCoolantTank;
     @ContainerSync
-    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getFuel", "getFuelCapacity", "getFuelNeeded", "getFuelFilledPercentage"}, docPlaceholder = "fuel tank")
+    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getFuel", "getFuelCapacity", "getFuelNeeded", "getFuelFilledPercentage"}, docPlaceholder = "fuel tank", cacheable = true)
     public IGasTank fuelTank;
 
     @ContainerSync
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getHeatedCoolant", "getHeatedCoolantCapacity", "getHeatedCoolantNeeded",
-                                                                                        "getHeatedCoolantFilledPercentage"}, docPlaceholder = "heated coolant")
+                                                                                        "getHeatedCoolantFilledPercentage"}, docPlaceholder = "heated coolant", cacheable = true)
     public IGasTank heatedCoolantTank;
     @ContainerSync
-    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getWaste", "getWasteCapacity", "getWasteNeeded", "getWasteFilledPercentage"}, docPlaceholder = "waste tank")
+    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getWaste", "getWasteCapacity", "getWasteNeeded", "getWasteFilledPercentage"}, docPlaceholder = "waste tank", cacheable = true)
     public IGasTank wasteTank;
     @ContainerSync
-    @WrappingComputerMethod(wrapper = ComputerHeatCapacitorWrapper.class, methodNames = "getTemperature", docPlaceholder = "reactor")
+    @WrappingComputerMethod(wrapper = ComputerHeatCapacitorWrapper.class, methodNames = "getTemperature", docPlaceholder = "reactor", cacheable = true)
     public VariableHeatCapacitor heatCapacitor;
 
     private double biomeAmbientTemp;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getEnvironmentalLoss")
+    @SyntheticComputerMethod(getter = "getEnvironmentalLoss", cacheableGetter = true)
     public double lastEnvironmentLoss = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getHeatingRate")
+    @SyntheticComputerMethod(getter = "getHeatingRate", cacheableGetter = true)
     public long lastBoilRate = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getActualBurnRate", getterDescription = "Actual burn rate as it may be lower if say there is not enough fuel")
+    @SyntheticComputerMethod(getter = "getActualBurnRate", cacheableGetter = true, getterDescription = "Actual burn rate as it may be lower if say there is not enough fuel")
     public double lastBurnRate = 0;
     private boolean clientBurning;
     @ContainerSync
     public double reactorDamage = 0;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getBurnRate", getterDescription = "Configured burn rate")
+    @SyntheticComputerMethod(getter = "getBurnRate", cacheableGetter = true, getterDescription = "Configured burn rate")
     public double rateLimit = MekanismGeneratorsConfig.generators.defaultBurnRate.get();
     public double burnRemaining = 0, partialWaste = 0;
     @ContainerSync
@@ -438,12 +438,12 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         }
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public boolean isForceDisabled() {
         return forceDisable;
     }
 
-    @ComputerMethod(nameOverride = "getStatus", methodDescription = "true -> active, false -> off")
+    @ComputerMethod(nameOverride = "getStatus", methodDescription = "true -> active, false -> off", cacheable = true)
     public boolean isActive() {
         return active;
     }
@@ -464,7 +464,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return getBounds().isOnCorner(tile.getBlockPos());
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public double getBoilEfficiency() {
         if (fuelAssemblies == 0) {
             //If for some reason the assemblies somehow haven't been initialized (even though they have to be to form)
@@ -475,12 +475,12 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return Math.min(1, avgSurfaceArea / MekanismGeneratorsConfig.generators.fissionSurfaceAreaTarget.get());
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public long getMaxBurnRate() {
         return fuelAssemblies * MekanismGeneratorsConfig.generators.burnPerAssembly.get();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public long getDamagePercent() {
         return Math.round((reactorDamage / FissionReactorMultiblockData.MAX_DAMAGE) * 100);
     }
@@ -545,7 +545,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         setRateLimit(rate);
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     Either<ChemicalStack<?>, FluidStack> getCoolant() {
         if (fluidCoolantTank.isEmpty() && !gasCoolantTank.isEmpty()) {
             return Either.left(gasCoolantTank.getStack());
@@ -553,7 +553,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return Either.right(fluidCoolantTank.getFluid());
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     long getCoolantCapacity() {
         if (fluidCoolantTank.isEmpty() && !gasCoolantTank.isEmpty()) {
             return gasCoolantTank.getCapacity();
@@ -561,7 +561,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return fluidCoolantTank.getCapacity();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     long getCoolantNeeded() {
         if (fluidCoolantTank.isEmpty() && !gasCoolantTank.isEmpty()) {
             return gasCoolantTank.getNeeded();
@@ -569,7 +569,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return fluidCoolantTank.getNeeded();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     double getCoolantFilledPercentage() {
         if (fluidCoolantTank.isEmpty() && !gasCoolantTank.isEmpty()) {
             return gasCoolantTank.getStored() / (double) gasCoolantTank.getCapacity();
@@ -577,7 +577,7 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
         return fluidCoolantTank.getFluidAmount() / (double) fluidCoolantTank.getCapacity();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     double getHeatCapacity() {
         return heatCapacitor.getHeatCapacity();
     }
@@ -81,10 +81,10 @@ public class FusionReactorMultiblockData extends MultiblockData {
     public IHeatCapacitor heatCapacitor;
 
     @ContainerSync(tags = HEAT_TAB)
-    @WrappingComputerMethod(wrapper = ComputerFluidTankWrapper.class, methodNames = {"getWater", "getWaterCapacity", "getWaterNeeded", "getWaterFilledPercentage"}, docPlaceholder = "water tank")
+    @WrappingComputerMethod(wrapper = ComputerFluidTankWrapper.class, methodNames = {"getWater", "getWaterCapacity", "getWaterNeeded", "getWaterFilledPercentage"}, docPlaceholder = "water tank", cacheable = true)
     public IExtendedFluidTank waterTank;
     @ContainerSync(tags = HEAT_TAB)
-    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getSteam", "getSteamCapacity", "getSteamNeeded", "getSteamFilledPercentage"}, docPlaceholder = "steam tank")
+    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getSteam", "getSteamCapacity", "getSteamNeeded", "getSteamFilledPercentage"}, docPlaceholder = "steam tank", cacheable = true)
     public IGasTank steamTank;
 
     private double biomeAmbientTemp;
@@ -93,22 +93,22 @@ public class FusionReactorMultiblockData extends MultiblockData {
     @ContainerSync
     private double lastCaseTemperature;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getEnvironmentalLoss")
+    @SyntheticComputerMethod(getter = "getEnvironmentalLoss", cacheableGetter = true)
     public double lastEnvironmentLoss;
     @ContainerSync
-    @SyntheticComputerMethod(getter = "getTransferLoss")
+    @SyntheticComputerMethod(getter = "getTransferLoss", cacheableGetter = true)
     public double lastTransferLoss;
 
     @ContainerSync(tags = FUEL_TAB)
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getDeuterium", "getDeuteriumCapacity", "getDeuteriumNeeded",
-                                                                                        "getDeuteriumFilledPercentage"}, docPlaceholder = "deuterium tank")
+                                                                                        "getDeuteriumFilledPercentage"}, docPlaceholder = "deuterium tank", cacheable = true)
     public IGasTank deuteriumTank;
     @ContainerSync(tags = FUEL_TAB)
     @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getTritium", "getTritiumCapacity", "getTritiumNeeded",
-                                                                                        "getTritiumFilledPercentage"}, docPlaceholder = "tritium tank")
+                                                                                        "getTritiumFilledPercentage"}, docPlaceholder = "tritium tank", cacheable = true)
     public IGasTank tritiumTank;
     @ContainerSync(tags = FUEL_TAB)
-    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getDTFuel", "getDTFuelCapacity", "getDTFuelNeeded", "getDTFuelFilledPercentage"}, docPlaceholder = "fuel tank")
+    @WrappingComputerMethod(wrapper = ComputerChemicalTankWrapper.class, methodNames = {"getDTFuel", "getDTFuelCapacity", "getDTFuelNeeded", "getDTFuelFilledPercentage"}, docPlaceholder = "fuel tank", cacheable = true)
     public IGasTank fuelTank;
     @ContainerSync(tags = {FUEL_TAB, HEAT_TAB, STATS_TAB}, getter = "getInjectionRate", setter = "setInjectionRate")
     private int injectionRate = 2;
@@ -343,12 +343,12 @@ public class FusionReactorMultiblockData extends MultiblockData {
         lastPlasmaTemperature = temp;
     }
 
-    @ComputerMethod(nameOverride = "getPlasmaTemperature")
+    @ComputerMethod(nameOverride = "getPlasmaTemperature", cacheable = true)
     public double getLastPlasmaTemp() {
         return lastPlasmaTemperature;
     }
 
-    @ComputerMethod(nameOverride = "getCaseTemperature")
+    @ComputerMethod(nameOverride = "getCaseTemperature", cacheable = true)
     public double getLastCaseTemp() {
         return lastCaseTemperature;
     }
@@ -364,7 +364,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
         }
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public int getInjectionRate() {
         return injectionRate;
     }
@@ -483,7 +483,7 @@ public class FusionReactorMultiblockData extends MultiblockData {
         return getPassiveGeneration(active, false);
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     FloatingLong getProductionRate() {
         return getPassiveGeneration(false, true);
     }
@@ -0,0 +1,76 @@
+package mekanism.api.math;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloatingLongBenchmark {
+
+    @Param({"small", "large"})
+    public String magnitude;
+
+    private FloatingLong a;
+    private FloatingLong b;
+
+    @Setup
+    public void setup() {
+        if (magnitude.equals("small")) {
+            a = FloatingLong.createConst(1_234, (short) 5_678);
+            b = FloatingLong.createConst(56, (short) 7_890);
+        } else {
+            //Values that don't fit in an int, but that still don't overflow a long when multiplied, as that short circuits to the max value
+            a = FloatingLong.createConst(4_000_000_000L, (short) 1_234);
+            b = FloatingLong.createConst(1_000_007L, (short) 9_876);
+        }
+    }
+
+    @Benchmark
+    public FloatingLong add() {
+        return a.add(b);
+    }
+
+    @Benchmark
+    public FloatingLong subtract() {
+        return a.subtract(b);
+    }
+
+    @Benchmark
+    public FloatingLong multiply() {
+        return a.multiply(b);
+    }
+
+    @Benchmark
+    public FloatingLong divide() {
+        return a.divide(b);
+    }
+
+    @Benchmark
+    public FloatingLong plusEqual() {
+        return a.copy().plusEqual(b);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return a.compareTo(b);
+    }
+
+    @Benchmark
+    public double divideToLevel() {
+        return b.divideToLevel(a);
+    }
+}
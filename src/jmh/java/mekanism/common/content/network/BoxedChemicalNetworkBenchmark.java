@@ -0,0 +1,193 @@
+package mekanism.common.content.network;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.Action;
+import mekanism.api.MekanismAPI;
+import mekanism.api.chemical.gas.Gas;
+import mekanism.api.chemical.gas.GasBuilder;
+import mekanism.api.chemical.gas.GasStack;
+import mekanism.api.chemical.gas.IGasHandler;
+import mekanism.common.capabilities.chemical.BoxedChemicalHandler;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderOwner;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.registries.IForgeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a {@link BoxedChemicalNetwork} that contains gas emitting to its acceptors, using the generic path that works for all chemical types and the path
+ * specialized for gas. This includes looking up the handlers of the acceptors, simulating the insertions, and distributing the gas between them.
+ *
+ * @implNote Chemical stacks can only be created for registered chemicals, so as the benchmarks don't run with the game's registries, this installs a minimal gas
+ * registry that only contains the empty gas and the gas we emit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoxedChemicalNetworkBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int acceptorCount;
+
+    /**
+     * What kind of acceptors to emit to. Infinite acceptors accept everything they are offered, partial acceptors only accept half of it which causes the split to be
+     * recalculated, and mixed alternates between the two.
+     */
+    @Param({"infinite", "partial", "mixed"})
+    public String handlers;
+
+    private List<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptors;
+    private GasStack toSend;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Gas gas = new Gas(GasBuilder.builder());
+        installGasRegistry(gas);
+        acceptors = new ArrayList<>(acceptorCount);
+        for (int i = 0; i < acceptorCount; i++) {
+            boolean partial = switch (handlers) {
+                case "partial" -> true;
+                case "mixed" -> i % 2 == 1;
+                default -> false;
+            };
+            IGasHandler gasHandler = new BenchmarkGasHandler(partial);
+            BoxedChemicalHandler handler = new BoxedChemicalHandler();
+            handler.addGasHandler(LazyOptional.of(() -> gasHandler));
+            //Networks only use acceptors after the transmitter has started listening for them to be invalidated
+            handler.addRefreshListeners(invalidated -> {
+            });
+            Map<Direction, LazyOptional<BoxedChemicalHandler>> sides = new EnumMap<>(Direction.class);
+            sides.put(Direction.from3DDataValue(i % 6), LazyOptional.of(() -> handler));
+            acceptors.add(sides);
+        }
+        //Don't split evenly so that the remainder also has to be distributed
+        toSend = new GasStack(gas, acceptorCount * 1_000L + acceptorCount / 2 + 1);
+    }
+
+    @Benchmark
+    public long boxed() {
+        return BoxedChemicalNetwork.emit(acceptors, toSend);
+    }
+
+    @Benchmark
+    public long gas() {
+        return BoxedChemicalNetwork.emitGas(acceptors, toSend);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void installGasRegistry(Gas gas) throws ReflectiveOperationException {
+        Map<Gas, ResourceKey<Gas>> keys = new HashMap<>();
+        keys.put(MekanismAPI.EMPTY_GAS, ResourceKey.create(MekanismAPI.GAS_REGISTRY_NAME, new ResourceLocation(MekanismAPI.MEKANISM_MODID, "empty")));
+        keys.put(gas, ResourceKey.create(MekanismAPI.GAS_REGISTRY_NAME, new ResourceLocation(MekanismAPI.MEKANISM_MODID, "benchmark")));
+        HolderOwner<Gas> owner = new HolderOwner<>() {
+        };
+        Method bindValue = Holder.Reference.class.getDeclaredMethod("bindValue", Object.class);
+        bindValue.setAccessible(true);
+        Map<Gas, Holder.Reference<Gas>> holders = new HashMap<>();
+        for (Map.Entry<Gas, ResourceKey<Gas>> entry : keys.entrySet()) {
+            Holder.Reference<Gas> holder = Holder.Reference.createStandAlone(owner, entry.getValue());
+            bindValue.invoke(holder, entry.getKey());
+            holders.put(entry.getKey(), holder);
+        }
+        //Creating a chemical stack only looks up the key and the holder of the chemical
+        IForgeRegistry<Gas> registry = (IForgeRegistry<Gas>) Proxy.newProxyInstance(BoxedChemicalNetworkBenchmark.class.getClassLoader(),
+              new Class<?>[]{IForgeRegistry.class}, (proxy, method, args) -> switch (method.getName()) {
+                  case "getKey" -> {
+                      ResourceKey<Gas> key = keys.get(args[0]);
+                      yield key == null ? null : key.location();
+                  }
+                  case "getDelegateOrThrow" -> {
+                      Holder.Reference<Gas> holder = holders.get(args[0]);
+                      if (holder == null) {
+                          throw new IllegalStateException("Unregistered gas: " + args[0]);
+                      }
+                      yield holder;
+                  }
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "equals" -> proxy == args[0];
+                  case "toString" -> "Benchmark gas registry";
+                  default -> throw new UnsupportedOperationException(method.getName());
+              });
+        Field registryField = MekanismAPI.class.getDeclaredField("GAS_REGISTRY");
+        registryField.setAccessible(true);
+        registryField.set(null, registry);
+    }
+
+    /**
+     * Gas handler with a single tank that voids everything inserted into it.
+     */
+    private static class BenchmarkGasHandler implements IGasHandler {
+
+        private final boolean partial;
+
+        private BenchmarkGasHandler(boolean partial) {
+            this.partial = partial;
+        }
+
+        @Override
+        public int getTanks() {
+            return 1;
+        }
+
+        @NotNull
+        @Override
+        public GasStack getChemicalInTank(int tank) {
+            return GasStack.EMPTY;
+        }
+
+        @Override
+        public void setChemicalInTank(int tank, @NotNull GasStack stack) {
+        }
+
+        @Override
+        public long getTankCapacity(int tank) {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public boolean isValid(int tank, @NotNull GasStack stack) {
+            return true;
+        }
+
+        @NotNull
+        @Override
+        public GasStack insertChemical(int tank, @NotNull GasStack stack, @NotNull Action action) {
+            if (partial && stack.getAmount() > 1) {
+                //Only accept half of what we are offered
+                return new GasStack(stack, stack.getAmount() / 2);
+            }
+            return GasStack.EMPTY;
+        }
+
+        @NotNull
+        @Override
+        public GasStack extractChemical(int tank, long amount, @NotNull Action action) {
+            return GasStack.EMPTY;
+        }
+    }
+}
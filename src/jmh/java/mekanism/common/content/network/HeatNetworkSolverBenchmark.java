@@ -0,0 +1,48 @@
+package mekanism.common.content.network;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.heat.HeatAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a single {@link HeatNetworkSolver#step()} of a line of conductors, using the same network layout as {@link HeatNetworkSolverTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeatNetworkSolverBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int conductorCount;
+
+    private HeatNetworkSolver solver;
+
+    @Setup
+    public void setup() {
+        solver = HeatNetworkSolverTest.createLine(conductorCount);
+        for (int node = 0; node < conductorCount; node++) {
+            //Give the conductors a temperature gradient so that heat transfers both to neighbors and the environment
+            solver.setTemperature(node, HeatAPI.AMBIENT_TEMP + node % 100);
+        }
+    }
+
+    @Benchmark
+    public double step() {
+        //Note: Stepping doesn't change the temperatures, so each step does the same amount of work
+        solver.step();
+        return solver.getEnvironmentTransfer();
+    }
+}
@@ -0,0 +1,36 @@
+package mekanism.common.content.qio;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing search queries. Like {@code SearchQueryParserTest}, this only covers parsing, as matching a query requires item stacks and therefore the game's
+ * registries to be loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchQueryParserBenchmark {
+
+    @Param({"iron", "iron ingot", "(iron | gold | diamond)", "iron | gold | (diamond | emerald) | netherite ingot", "@mekanism $ingots/ \"osmium ingot\"",
+            "@(minecraft | mekanism) #(ingots/iron | ingots/gold) | ~(red | blue) name"})
+    public String query;
+
+    @Benchmark
+    public ISearchQuery parse() {
+        return SearchQueryParser.parse(query);
+    }
+}
@@ -0,0 +1,55 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WildcardMatcherBenchmark {
+
+    /**
+     * Tag names similar to the ones filters get matched against.
+     */
+    private static final String[] TAGS = {
+          "forge:ingots/osmium",
+          "forge:ores/osmium",
+          "forge:dusts/refined_obsidian",
+          "minecraft:logs_that_burn",
+          "mekanism:colorable/concrete_powder",
+          "forge:storage_blocks/raw_uranium",
+          "forge:nuggets/steel",
+          "forge:ores_in_ground/deepslate"
+    };
+
+    @Param({"forge:ingots/osmium", "forge:ores/*", "*:*/osmium", "forge:*s/*o*", "forge:???s/*"})
+    public String wildcard;
+
+    @Benchmark
+    public void matches(Blackhole blackhole) {
+        for (String tag : TAGS) {
+            blackhole.consume(WildcardMatcher.matches(wildcard, tag));
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        WildcardMatcher.CompiledWildcard matcher = WildcardMatcher.compile(wildcard);
+        for (String tag : TAGS) {
+            blackhole.consume(matcher.test(tag));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package mekanism.common.lib.distribution;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
+import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.util.EmitUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link EmitUtils#sendToAcceptors(Target, int, Object)} using the same handlers as {@link DistributionTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributionBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int handlerCount;
+
+    /**
+     * What kind of handlers to distribute between. Infinite handlers accept everything they are offered, partial handlers only accept half of it which causes the split
+     * to be recalculated, and mixed alternates between the two.
+     */
+    @Param({"infinite", "partial", "mixed"})
+    public String handlers;
+
+    private IntegerHandler[] handlerArray;
+    private int toSend;
+
+    @Setup
+    public void setup() {
+        handlerArray = new IntegerHandler[handlerCount];
+        for (int i = 0; i < handlerCount; i++) {
+            boolean partial = switch (handlers) {
+                case "partial" -> true;
+                case "mixed" -> i % 2 == 1;
+                default -> false;
+            };
+            handlerArray[i] = partial ? new PartialIntegerHandler() : new InfiniteIntegerHandler();
+        }
+        //Don't split evenly so that the remainder also has to be distributed
+        toSend = handlerCount * 1_000 + handlerCount / 2 + 1;
+    }
+
+    @Benchmark
+    public int sendToAcceptors() {
+        //Networks create a new target each time they emit, so include that in what we measure
+        IntegerTarget target = new IntegerTarget();
+        for (IntegerHandler handler : handlerArray) {
+            target.addHandler(handler);
+        }
+        return EmitUtils.sendToAcceptors(target, toSend, toSend);
+    }
+}
@@ -0,0 +1,74 @@
+package mekanism.common.lib.inventory;
+
+import java.util.concurrent.TimeUnit;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks hashing, copying, and comparing item NBT of various sizes. These are the parts of what {@link HashedItem} does that scale with the stack's NBT: it hashes
+ * the tag when it is created, copies it when {@link HashedItem#create} copies the stack, and compares it when looking up a {@link HashedItem#raw raw} item in a map.
+ *
+ * @implNote This only measures the tags, not {@link HashedItem} itself, as item stacks can't be created without the game's registries being loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemNBTBenchmark {
+
+    /**
+     * How many entries the NBT of the stack has.
+     */
+    @Param({"0", "4", "64"})
+    public int tagEntries;
+
+    private CompoundTag tag;
+    //An equal tag that is a different instance, like the tag of a stack in an inventory compared to the one stored in a HashedItem
+    private CompoundTag equalTag;
+
+    @Setup
+    public void setup() {
+        tag = createTag(tagEntries);
+        equalTag = createTag(tagEntries);
+    }
+
+    private static CompoundTag createTag(int entries) {
+        CompoundTag tag = new CompoundTag();
+        ListTag lore = new ListTag();
+        for (int i = 0; i < entries; i++) {
+            tag.putInt("value" + i, i);
+            lore.add(StringTag.valueOf("Line " + i));
+        }
+        tag.put("lore", lore);
+        return tag;
+    }
+
+    @Benchmark
+    public int hash() {
+        return tag.hashCode();
+    }
+
+    @Benchmark
+    public CompoundTag copy() {
+        return tag.copy();
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return tag.equals(equalTag);
+    }
+}
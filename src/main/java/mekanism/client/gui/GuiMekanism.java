@@ -18,6 +18,7 @@ import mekanism.client.gui.element.window.GuiWindow;
 import mekanism.client.render.IFancyFontRenderer;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.SelectedWindowData;
 import mekanism.common.inventory.container.slot.ContainerSlotType;
@@ -35,6 +36,7 @@ import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.MekanismUtils.ResourceType;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.gui.components.Renderable;
 import net.minecraft.client.gui.components.events.GuiEventListener;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -60,6 +62,9 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
     private IWarningTracker warningTracker;
 
     private boolean hasClicked = false;
+    //Note: Other mods can add widgets by directly modifying the lists of widgets when our screen is initialized, so we also recheck if the number of renderables changes
+    private int checkedRenderables = -1;
+    private boolean onlyGuiElements;
 
     public static int maxZOffset;
 
@@ -92,6 +97,7 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
     @Override
     protected void init() {
         super.init();
+        GuiRenderBatcher.resetFrameTimes();
         if (warningTracker != null) {
             //If our warning tracker isn't null (so this isn't the first time we are initializing, such as after resizing)
             // clear out any tracked warnings, so we don't have duplicates being tracked when we add our elements again
@@ -124,9 +130,44 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
     protected <T extends GuiElement> T addElement(T element) {
         renderables.add(element);
         ((List<GuiEventListener>) children()).add(element);
+        onRenderablesChanged();
         return element;
     }
 
+    @Override
+    protected void removeWidget(@NotNull GuiEventListener listener) {
+        super.removeWidget(listener);
+        onRenderablesChanged();
+    }
+
+    @Override
+    protected void clearWidgets() {
+        super.clearWidgets();
+        onRenderablesChanged();
+    }
+
+    private void onRenderablesChanged() {
+        checkedRenderables = -1;
+    }
+
+    /**
+     * @return {@code true} if all the renderables are our own elements, which means they will flush the {@link GuiRenderBatcher} before rendering anything that isn't
+     * batched.
+     */
+    private boolean hasOnlyGuiElements() {
+        if (checkedRenderables != renderables.size()) {
+            onlyGuiElements = true;
+            for (Renderable renderable : renderables) {
+                if (!(renderable instanceof GuiElement)) {
+                    onlyGuiElements = false;
+                    break;
+                }
+            }
+            checkedRenderables = renderables.size();
+        }
+        return onlyGuiElements;
+    }
+
     protected <T extends GuiElement> T addRenderableWidget(T element) {
         //TODO: At some point we want to replace calls of this to directly call addElement, and then add in better support
         // for the narrator and what is currently focused and implement in some gui elements updateNarration rather than
@@ -237,6 +278,8 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
 
     @Override
     protected void renderLabels(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY) {
+        //Draw anything left in the batcher in case there are no slots
+        GuiRenderBatcher.end();
         //PoseStack modelViewStack = RenderSystem.getModelViewStack();
         //Note: We intentionally don't push the modelViewStack, see notes further down in this method for more details
         //TODO - 1.20: Figure this out as some transforms and hacks may be unnecessary now
@@ -557,6 +600,10 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
             return;
         }
         GuiUtils.renderBackgroundTexture(guiGraphics, BASE_BACKGROUND, 4, 4, leftPos, topPos, imageWidth, imageHeight, 256, 256);
+        //Batch the elements' blits until the slots start being rendered, unless there are widgets that aren't ours and therefore won't flush the batcher
+        if (hasOnlyGuiElements()) {
+            GuiRenderBatcher.begin();
+        }
     }
 
     @Override
@@ -570,6 +617,7 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
     // My guess is we may be able to remove the model view stack hacks??
     @Override
     public void render(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTicks) {
+        long start = System.nanoTime();
         PoseStack pose = guiGraphics.pose();
         pose.pushPose();
         // shift back a whole lot so we can stack more windows
@@ -578,6 +626,12 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
         renderBackground(guiGraphics);
         super.render(guiGraphics, mouseX, mouseY, partialTicks);
         pose.popPose();
+        //Ensure nothing is left in the batcher if something went wrong before our labels got rendered
+        GuiRenderBatcher.end();
+        if (MekanismConfig.client.guiFrameTimeOverlay.get()) {
+            GuiRenderBatcher.recordFrame(System.nanoTime() - start);
+            GuiRenderBatcher.renderFrameTimeOverlay(guiGraphics, getFont());
+        }
     }
 
     @Override
@@ -646,4 +700,4 @@ public abstract class GuiMekanism<CONTAINER extends AbstractContainerMenu> exten
     public LRU<GuiWindow>.LRUIterator getWindowsDescendingIterator() {
         return windows.descendingIterator();
     }
-}
\ No newline at end of file
+}
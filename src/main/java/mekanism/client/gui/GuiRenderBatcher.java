@@ -0,0 +1,156 @@
+package mekanism.client.gui;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.BufferUploader;
+import com.mojang.blaze3d.vertex.DefaultVertexFormat;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexFormat.Mode;
+import java.util.Arrays;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.client.gui.Font;
+import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+
+/**
+ * Collects the quads of consecutive blits that use the same texture while a {@link GuiMekanism} draws its elements, so that they can be drawn with a single draw call
+ * instead of one per blit. Also keeps track of how long Mekanism guis take to render for the optional frame time overlay.
+ *
+ * @implNote Anything that is not drawn through this batcher must call {@link #flush()} before it draws so that the batched quads end up below it.
+ */
+@NothingNullByDefault
+public class GuiRenderBatcher {
+
+    private static final int FRAME_SAMPLES = 60;
+
+    private static final BufferBuilder BUFFER = new BufferBuilder(64 * 4 * DefaultVertexFormat.POSITION_TEX.getVertexSize());
+    private static final float[] color = new float[4];
+    private static boolean active;
+    @Nullable
+    private static ResourceLocation texture;
+
+    private static final long[] frameTimes = new long[FRAME_SAMPLES];
+    private static int frameIndex;
+    private static int frameCount;
+    private static int drawCalls;
+    private static int batchedQuads;
+    private static int lastDrawCalls;
+    private static int lastBatchedQuads;
+
+    private GuiRenderBatcher() {
+    }
+
+    public static boolean isEnabled() {
+        return MekanismConfig.client.batchGuiRendering.get();
+    }
+
+    /**
+     * Starts batching blits, if batching is enabled in the config.
+     */
+    public static void begin() {
+        active = isEnabled();
+    }
+
+    /**
+     * Draws anything that has been batched and stops batching.
+     */
+    public static void end() {
+        flush();
+        active = false;
+    }
+
+    /**
+     * Equivalent of {@link GuiGraphics#blit(ResourceLocation, int, int, float, float, int, int, int, int)} that gets batched if batching is currently active.
+     */
+    public static void blit(GuiGraphics guiGraphics, ResourceLocation texture, int x, int y, float u, float v, int width, int height, int textureWidth,
+          int textureHeight) {
+        if (!active) {
+            guiGraphics.blit(texture, x, y, u, v, width, height, textureWidth, textureHeight);
+            return;
+        }
+        float[] shaderColor = RenderSystem.getShaderColor();
+        if (GuiRenderBatcher.texture != null && (!GuiRenderBatcher.texture.equals(texture) || !Arrays.equals(color, shaderColor))) {
+            //Different textures or colors can't be drawn in the same draw call
+            flush();
+        }
+        if (GuiRenderBatcher.texture == null) {
+            GuiRenderBatcher.texture = texture;
+            System.arraycopy(shaderColor, 0, color, 0, color.length);
+            BUFFER.begin(Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+        }
+        Matrix4f matrix = guiGraphics.pose().last().pose();
+        float minU = u / textureWidth;
+        float maxU = (u + width) / textureWidth;
+        float minV = v / textureHeight;
+        float maxV = (v + height) / textureHeight;
+        BUFFER.vertex(matrix, x, y, 0).uv(minU, minV).endVertex();
+        BUFFER.vertex(matrix, x, y + height, 0).uv(minU, maxV).endVertex();
+        BUFFER.vertex(matrix, x + width, y + height, 0).uv(maxU, maxV).endVertex();
+        BUFFER.vertex(matrix, x + width, y, 0).uv(maxU, minV).endVertex();
+        batchedQuads++;
+    }
+
+    /**
+     * Draws anything that has been batched so far.
+     */
+    public static void flush() {
+        if (texture != null) {
+            //Draw with the color the quads were batched with, and then restore whatever the current color is
+            float[] shaderColor = RenderSystem.getShaderColor();
+            float red = shaderColor[0], green = shaderColor[1], blue = shaderColor[2], alpha = shaderColor[3];
+            RenderSystem.setShaderColor(color[0], color[1], color[2], color[3]);
+            RenderSystem.setShaderTexture(0, texture);
+            RenderSystem.setShader(GameRenderer::getPositionTexShader);
+            BufferUploader.drawWithShader(BUFFER.end());
+            RenderSystem.setShaderColor(red, green, blue, alpha);
+            texture = null;
+            drawCalls++;
+        }
+    }
+
+    /**
+     * Records how long rendering a gui took, and how many batched draw calls were needed for it.
+     */
+    public static void recordFrame(long nanos) {
+        frameTimes[frameIndex] = nanos;
+        frameIndex = (frameIndex + 1) % FRAME_SAMPLES;
+        frameCount = Math.min(frameCount + 1, FRAME_SAMPLES);
+        lastDrawCalls = drawCalls;
+        lastBatchedQuads = batchedQuads;
+        drawCalls = 0;
+        batchedQuads = 0;
+    }
+
+    public static void resetFrameTimes() {
+        frameIndex = 0;
+        frameCount = 0;
+    }
+
+    /**
+     * Draws the average and max time it took to render the last few frames of the gui in the top left corner of the screen.
+     */
+    public static void renderFrameTimeOverlay(GuiGraphics guiGraphics, Font font) {
+        if (frameCount == 0) {
+            return;
+        }
+        long total = 0;
+        long max = 0;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameTimes[i];
+            max = Math.max(max, frameTimes[i]);
+        }
+        String times = String.format("Mekanism GUI: %.3f ms avg, %.3f ms max (CPU, last %d frames)", total / 1_000_000D / frameCount, max / 1_000_000D, frameCount);
+        String batches = isEnabled() ? String.format("Batched %d quads in %d draw calls", lastBatchedQuads, lastDrawCalls) : "GUI batching disabled";
+        PoseStack pose = guiGraphics.pose();
+        pose.pushPose();
+        //Render above tooltips
+        pose.translate(0, 0, 500);
+        guiGraphics.drawString(font, times, 2, 2, 0xFFFFFF);
+        guiGraphics.drawString(font, batches, 2, 4 + font.lineHeight, 0xFFFFFF);
+        pose.popPose();
+    }
+}
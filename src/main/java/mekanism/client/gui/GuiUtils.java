@@ -14,7 +14,6 @@ import com.mojang.blaze3d.vertex.VertexFormat.Mode;
 import com.mojang.math.Divisor;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import mekanism.client.gui.element.GuiElement;
@@ -38,6 +37,12 @@ import org.joml.Matrix4f;
 
 public class GuiUtils {
 
+    private static final Cache<NineSliceKey, VertexBuffer> NINE_SLICE_CACHE = CacheBuilder.newBuilder()
+          .maximumSize(128)
+          .expireAfterAccess(1, TimeUnit.MINUTES)
+          .<NineSliceKey, VertexBuffer>removalListener(notification -> notification.getValue().close())
+          .build();
+
     private GuiUtils() {
     }
 
@@ -244,6 +249,8 @@ public class GuiUtils {
 
     // like guiGraphics.blitNineSlicedSized but uses one BufferBuilder
     public static void blitNineSlicedSized(GuiGraphics guiGraphics, ResourceLocation texture, int x, int y, int width, int height, int sliceWidth, int sliceHeight, int uWidth, int vHeight, int uOffset, int vOffset, int textureWidth, int textureHeight) {
+        //Draw anything that has been batched so that it stays below what we are drawing
+        GuiRenderBatcher.flush();
         ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
         profiler.push("blit setup");
         RenderSystem.setShaderTexture(0, texture);
@@ -251,11 +258,45 @@ public class GuiUtils {
         Matrix4f matrix4f = guiGraphics.pose().last().pose();
         profiler.pop();
 
+        if (GuiRenderBatcher.isEnabled()) {
+            //The geometry only depends on the layout and not the texture, so we build it once relative to the origin and keep it on the GPU until the layout changes
+            NineSliceKey key = new NineSliceKey(width, height, sliceWidth, sliceHeight, uWidth, vHeight, uOffset, vOffset, textureWidth, textureHeight);
+            VertexBuffer cachedBuffer = NINE_SLICE_CACHE.getIfPresent(key);
+            if (cachedBuffer == null) {
+                profiler.push("blitting");
+                BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
+                bufferbuilder.begin(Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
+                buildNineSliced(bufferbuilder, new Matrix4f(), 0, 0, width, height, sliceWidth, sliceHeight, uWidth, vHeight, uOffset, vOffset, textureWidth, textureHeight);
+                cachedBuffer = new VertexBuffer(Usage.STATIC);
+                cachedBuffer.bind();
+                cachedBuffer.upload(bufferbuilder.end());
+                NINE_SLICE_CACHE.put(key, cachedBuffer);
+                profiler.pop();
+            } else {
+                cachedBuffer.bind();
+            }
+            profiler.push("drawing");
+            Matrix4f modelView = new Matrix4f(RenderSystem.getModelViewMatrix()).mul(matrix4f).translate(x, y, 0);
+            cachedBuffer.drawWithShader(modelView, RenderSystem.getProjectionMatrix(), RenderSystem.getShader());
+            VertexBuffer.unbind();
+            profiler.pop();
+            return;
+        }
+
         BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
         bufferbuilder.begin(Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
 
         profiler.push("blitting");
+        buildNineSliced(bufferbuilder, matrix4f, x, y, width, height, sliceWidth, sliceHeight, uWidth, vHeight, uOffset, vOffset, textureWidth, textureHeight);
+        profiler.pop();
 
+        profiler.push("drawing");
+        BufferUploader.drawWithShader(bufferbuilder.end());
+
+        profiler.pop();
+    }
+
+    private static void buildNineSliced(BufferBuilder bufferbuilder, Matrix4f matrix4f, int x, int y, int width, int height, int sliceWidth, int sliceHeight, int uWidth, int vHeight, int uOffset, int vOffset, int textureWidth, int textureHeight) {
         int cornerWidth = sliceWidth;
         int cornerHeight = sliceHeight;
         int edgeWidth = sliceWidth;
@@ -285,13 +326,6 @@ public class GuiUtils {
             blitRepeating(bufferbuilder, matrix4f, x + cornerWidth, y + cornerHeight, width - edgeWidth - cornerWidth, height - edgeHeight - cornerHeight, uOffset + cornerWidth, vOffset + cornerHeight, uWidth - edgeWidth - cornerWidth, vHeight - edgeHeight - cornerHeight, textureWidth, textureHeight);
             blitRepeating(bufferbuilder, matrix4f, x + width - edgeWidth, y + cornerHeight, cornerWidth, height - edgeHeight - cornerHeight, uOffset + uWidth - edgeWidth, vOffset + cornerHeight, edgeWidth, vHeight - edgeHeight - cornerHeight, textureWidth, textureHeight);
         }
-        profiler.pop();
-
-        profiler.push("drawing");
-        //cachedBuffer.bind();
-        BufferUploader.drawWithShader(bufferbuilder.end());
-
-        profiler.pop();
     }
 
     public static void blitNineSlicedSized(GuiGraphics guiGraphics, ResourceLocation texture, int x, int y, int width, int height, int sliceSize, int uWidth, int vHeight, int uOffset, int vOffset, int textureWidth, int textureHeight) {
@@ -336,4 +370,8 @@ public class GuiUtils {
         int i = Mth.positiveCeilDiv(pTarget, pTotal);
         return new Divisor(pTarget, i);
     }
-}
\ No newline at end of file
+
+    private record NineSliceKey(int width, int height, int sliceWidth, int sliceHeight, int uWidth, int vHeight, int uOffset, int vOffset, int textureWidth,
+                                int textureHeight) {
+    }
+}
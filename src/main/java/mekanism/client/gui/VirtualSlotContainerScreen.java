@@ -87,6 +87,8 @@ public abstract class VirtualSlotContainerScreen<T extends AbstractContainerMenu
     @Override
     @Deprecated//Don't use directly, this is normally private in ContainerScreen
     protected final void renderSlot(@NotNull GuiGraphics graphics, @NotNull Slot slot) {
+        //Draw anything that got batched while drawing the background so that it ends up below the slot's contents
+        GuiRenderBatcher.end();
         if (!(slot instanceof IVirtualSlot virtualSlot)) {
             //If we are not a virtual slot, the super method is good enough
             super.renderSlot(graphics, slot);
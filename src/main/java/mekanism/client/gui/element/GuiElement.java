@@ -8,6 +8,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import mekanism.api.text.ILangEntry;
 import mekanism.client.gui.GuiMekanism;
+import mekanism.client.gui.GuiRenderBatcher;
 import mekanism.client.gui.GuiUtils;
 import mekanism.client.gui.GuiUtils.TilingDirection;
 import mekanism.client.gui.IGuiWrapper;
@@ -421,6 +422,10 @@ public abstract class GuiElement extends AbstractWidget implements IFancyFontRen
     }
 
     public final void renderShifted(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTicks) {
+        if (!batchesRendering()) {
+            //Draw anything that has been batched so far so that it ends up below this element
+            GuiRenderBatcher.flush();
+        }
         super.render(guiGraphics, mouseX, mouseY, partialTicks);
     }
 
@@ -437,6 +442,13 @@ public abstract class GuiElement extends AbstractWidget implements IFancyFontRen
         }
     }
 
+    /**
+     * @return {@code true} if this element only draws through {@link GuiRenderBatcher} when rendering the widget, or flushes the batcher before drawing anything else.
+     */
+    protected boolean batchesRendering() {
+        return false;
+    }
+
     @Override
     public void renderWidget(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTicks) {
     }
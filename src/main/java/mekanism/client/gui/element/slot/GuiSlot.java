@@ -4,6 +4,7 @@ import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import mekanism.api.text.EnumColor;
+import mekanism.client.gui.GuiRenderBatcher;
 import mekanism.client.gui.IGuiWrapper;
 import mekanism.client.gui.element.GuiElement;
 import mekanism.client.gui.element.GuiTexturedElement;
@@ -117,6 +118,11 @@ public class GuiSlot extends GuiTexturedElement implements IJEIGhostTarget, ISup
         return this;
     }
 
+    @Override
+    protected boolean batchesRendering() {
+        return true;
+    }
+
     @Override
     public void renderWidget(@NotNull GuiGraphics guiGraphics, int mouseX, int mouseY, float partialTicks) {
         if (!renderAboveSlots) {
@@ -138,28 +144,34 @@ public class GuiSlot extends GuiTexturedElement implements IJEIGhostTarget, ISup
         } else {
             texture = getResource();
         }
-        guiGraphics.blit(texture, relativeX, relativeY, 0, 0, width, height, width, height);
+        GuiRenderBatcher.blit(guiGraphics, texture, relativeX, relativeY, 0, 0, width, height, width, height);
         if (overlaySupplier != null) {
             overlay = overlaySupplier.get();
         }
         if (overlay != null) {
-            guiGraphics.blit(overlay.getTexture(), relativeX, relativeY, 0, 0, overlay.getWidth(), overlay.getHeight(), overlay.getWidth(), overlay.getHeight());
+            GuiRenderBatcher.blit(guiGraphics, overlay.getTexture(), relativeX, relativeY, 0, 0, overlay.getWidth(), overlay.getHeight(), overlay.getWidth(),
+                  overlay.getHeight());
         }
         drawContents(guiGraphics);
     }
 
+    /**
+     * @implNote Implementations must call {@link GuiRenderBatcher#flush()} before drawing anything so that the slot is drawn below the contents.
+     */
     protected void drawContents(@NotNull GuiGraphics guiGraphics) {
         if (validityCheck != null) {
             ItemStack invalid = validityCheck.get();
             if (!invalid.isEmpty()) {
                 int xPos = relativeX + 1;
                 int yPos = relativeY + 1;
+                GuiRenderBatcher.flush();
                 guiGraphics.fill(xPos, yPos, xPos + 16, yPos + 16, INVALID_SLOT_COLOR);
                 gui().renderItem(guiGraphics, invalid, xPos, yPos);
             }
         } else if (storedStackSupplier != null) {
             ItemStack stored = storedStackSupplier.get();
             if (!stored.isEmpty()) {
+                GuiRenderBatcher.flush();
                 gui().renderItem(guiGraphics, stored, relativeX + 1, relativeY + 1);
             }
         }
@@ -1,6 +1,7 @@
 package mekanism.client.gui.element.slot;
 
 import java.util.Optional;
+import mekanism.client.gui.GuiRenderBatcher;
 import mekanism.client.gui.IGuiWrapper;
 import mekanism.client.gui.VirtualSlotContainerScreen;
 import mekanism.client.gui.element.GuiElement;
@@ -53,6 +54,7 @@ public class GuiVirtualSlot extends GuiSlot implements IJEIIngredientHelper {
             if (!stack.isEmpty()) {
                 int xPos = relativeX + 1;
                 int yPos = relativeY + 1;
+                GuiRenderBatcher.flush();
                 if (virtualSlot.shouldDrawOverlay()) {
                     guiGraphics.fill(RenderType.guiOverlay(), xPos, yPos, xPos + 16, yPos + 16, DEFAULT_HOVER_COLOR);
                 }
@@ -1,15 +1,11 @@
 package mekanism.client.render;
 
-import it.unimi.dsi.fastutil.floats.Float2ObjectMap;
-import it.unimi.dsi.fastutil.floats.Float2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.Map;
 import mekanism.client.render.MekanismRenderer.Model3D;
+import mekanism.client.render.RenderModelCache.ModelKey;
 import mekanism.client.render.data.RenderData;
 import mekanism.client.render.data.ValveRenderData;
 import mekanism.common.util.MekanismUtils;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.core.Direction;
 import net.minecraftforge.fluids.FluidStack;
 import org.jetbrains.annotations.Nullable;
@@ -21,8 +17,8 @@ public final class ModelRenderer {
 
     private static final int BLOCK_STAGES = 1_000;
 
-    private static final Map<RenderData, Int2ObjectMap<Model3D>> cachedCenterData = new Object2ObjectOpenHashMap<>();
-    private static final Map<ValveRenderData, Float2ObjectMap<Model3D>> cachedValveFluids = new Object2ObjectOpenHashMap<>();
+    private static final RenderModelCache<CenterModelKey> cachedCenterData = new RenderModelCache<>("multiblockCenter", 1_024);
+    private static final RenderModelCache<ValveModelKey> cachedValveFluids = new RenderModelCache<>("multiblockValve", 1_024);
 
     public static int getStage(FluidStack stack, int stages, double scale) {
         return getStage(MekanismUtils.lighterThanAirGas(stack), stages, scale);
@@ -49,13 +45,12 @@ public final class ModelRenderer {
         } else {
             stage = Math.min(maxStages, (int) (scale * maxStages));
         }
-        return cachedCenterData.computeIfAbsent(data, d -> new Int2ObjectOpenHashMap<>())
-              .computeIfAbsent(stage, s -> new Model3D()
-                    .setTexture(data.getTexture())
-                    .xBounds(0.01F, data.length - 0.02F)
-                    .yBounds(0.01F, data.height * (s / (float) maxStages) - 0.02F)
-                    .zBounds(0.01F, data.width - 0.02F)
-              );
+        return cachedCenterData.get(new CenterModelKey(data.getTexture(), data.length, data.width, data.height, stage), key -> new Model3D()
+              .setTexture(key.texture())
+              .xBounds(0.01F, data.length - 0.02F)
+              .yBounds(0.01F, data.height * (key.stage() / (float) maxStages) - 0.02F)
+              .zBounds(0.01F, data.width - 0.02F)
+        );
     }
 
     //Undoes the z-fighting height shift from the model
@@ -72,30 +67,46 @@ public final class ModelRenderer {
         }) {
             return null;
         }
-        return cachedValveFluids.computeIfAbsent(data, d -> new Float2ObjectOpenHashMap<>())
-              .computeIfAbsent(height, fluidHeight -> {
-                  Model3D model = new Model3D()
-                        .prepFlowing(data.fluidType)
-                        .setSideRender(Direction.DOWN, fluidHeight == 0)
-                        .xBounds(0.3F, 0.7F)
-                        .zBounds(0.3F, 0.7F);
-                  Direction side = data.getSide();
-                  if (side.getAxis().isHorizontal()) {
-                      model.yBounds(fluidHeight - data.getValveFluidHeight() + 0.01F, 0.7F);
-                  }
-                  return switch (side) {
-                      case DOWN -> model.yBounds(fluidHeight + 1.01F, 1.5F);
-                      case UP -> model.yBounds(fluidHeight - data.height - 0.01F, -0.01F);
-                      case NORTH -> model.zBounds(1.02F, 1.4F);
-                      case SOUTH -> model.zBounds(-0.4F, -0.03F);
-                      case WEST -> model.xBounds(1.02F, 1.4F);
-                      case EAST -> model.xBounds(-0.4F, -0.03F);
-                  };
-              });
+        //Note: The height is based on the height of the quantized center model, so we can just use its bits as the stage
+        ModelKey fluidKey = ModelKey.of(data.fluidType, data.getSide().ordinal(), Float.floatToIntBits(height));
+        return cachedValveFluids.get(new ValveModelKey(fluidKey, data.getValveFluidHeight(), data.height), key -> {
+            Model3D model = new Model3D()
+                  .prepFlowing(data.fluidType)
+                  .setSideRender(Direction.DOWN, height == 0)
+                  .xBounds(0.3F, 0.7F)
+                  .zBounds(0.3F, 0.7F);
+            Direction side = data.getSide();
+            if (side.getAxis().isHorizontal()) {
+                model.yBounds(height - data.getValveFluidHeight() + 0.01F, 0.7F);
+            }
+            return switch (side) {
+                case DOWN -> model.yBounds(height + 1.01F, 1.5F);
+                case UP -> model.yBounds(height - data.height - 0.01F, -0.01F);
+                case NORTH -> model.zBounds(1.02F, 1.4F);
+                case SOUTH -> model.zBounds(-0.4F, -0.03F);
+                case WEST -> model.xBounds(1.02F, 1.4F);
+                case EAST -> model.xBounds(-0.4F, -0.03F);
+            };
+        });
     }
 
     public static void resetCachedModels() {
         cachedCenterData.clear();
         cachedValveFluids.clear();
     }
+
+    /**
+     * @param texture The texture of the contents, which also identifies what the contents are. This is safe to key on as the cache gets reset whenever the atlases are
+     *                rebuilt.
+     */
+    private record CenterModelKey(TextureAtlasSprite texture, int length, int width, int height, int stage) {
+    }
+
+    /**
+     * @param fluid            Key for the fluid's textures, with the side of the valve as the variant and the bits of the height of the fluid as the stage.
+     * @param valveFluidHeight The height of the valve relative to the bottom of the multiblock.
+     * @param height           The height of the multiblock.
+     */
+    private record ValveModelKey(ModelKey fluid, int valveFluidHeight, int height) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package mekanism.client.render;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.chemical.Chemical;
+import mekanism.client.render.MekanismRenderer.Model3D;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
+import net.minecraftforge.fluids.FluidStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Size bounded cache of the models used to render fluids and chemicals at various stages. When the cache is full the least recently used model is evicted.
+ */
+@NothingNullByDefault
+public class RenderModelCache<KEY> {
+
+    private static final List<RenderModelCache<?>> CACHES = new ArrayList<>();
+
+    private final Object2ObjectLinkedOpenHashMap<KEY, Model3D> cache = new Object2ObjectLinkedOpenHashMap<>();
+    private final String name;
+    private final int maxSize;
+    private long hits;
+    private long misses;
+
+    public RenderModelCache(String name, int maxSize) {
+        this.name = name;
+        this.maxSize = maxSize;
+        CACHES.add(this);
+    }
+
+    public Model3D get(KEY key, Function<KEY, Model3D> modelCreator) {
+        Model3D model = cache.getAndMoveToLast(key);
+        if (model == null) {
+            misses++;
+            model = modelCreator.apply(key);
+            cache.putAndMoveToLast(key, model);
+            if (cache.size() > maxSize) {
+                cache.removeFirst();
+            }
+        } else {
+            hits++;
+        }
+        return model;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Adds the size and hit rate of each cache to the given debug text.
+     */
+    public static void addDebugText(List<String> text) {
+        for (RenderModelCache<?> cache : CACHES) {
+            long lookups = cache.hits + cache.misses;
+            if (lookups > 0) {
+                text.add(String.format("Mekanism %s models: %d/%d, %d hits, %d misses (%.1f%%)", cache.name, cache.cache.size(), cache.maxSize, cache.hits,
+                      cache.misses, 100D * cache.hits / lookups));
+            }
+        }
+    }
+
+    /**
+     * Key for a model of a given type of contents and quantized stage.
+     *
+     * @param type           The contents' identity, for example a {@link net.minecraft.world.level.material.Fluid} or {@link Chemical}.
+     * @param stillTexture   The still texture of the contents, if it may depend on more than the type, such as for fluids whose texture depends on their NBT.
+     * @param flowingTexture The flowing texture of the contents, if it may depend on more than the type.
+     * @param variant        Any additional data about the shape of the model, for example the side it is for.
+     * @param stage          The quantized stage of the model.
+     */
+    public record ModelKey(Object type, @Nullable ResourceLocation stillTexture, @Nullable ResourceLocation flowingTexture, int variant, int stage) {
+
+        /**
+         * @implNote Keys on the textures of the fluid rather than its NBT, as the textures are all the models use from the stack, and unlike the NBT they are immutable
+         * and cheap to hash. The tint is applied when rendering rather than being part of the model, so it doesn't need to be part of the key.
+         */
+        public static ModelKey of(FluidStack stack, int variant, int stage) {
+            IClientFluidTypeExtensions properties = IClientFluidTypeExtensions.of(stack.getFluid());
+            return new ModelKey(stack.getFluid(), properties.getStillTexture(stack), properties.getFlowingTexture(stack), variant, stage);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import mekanism.client.render.lib.QuadUtils;
 import mekanism.client.render.lib.Vertex;
 import mekanism.client.render.lib.effect.BoltRenderer;
 import mekanism.client.render.tileentity.IWireFrameRenderer;
+import mekanism.client.render.transmitter.TransporterItemBatcher;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.block.BlockBounding;
@@ -78,6 +79,7 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult.Type;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderArmEvent;
 import net.minecraftforge.client.event.RenderGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderHighlightEvent;
@@ -109,6 +111,7 @@ public class RenderTickHandler {
     public static void clearQueued() {
         RadiationOverlay.INSTANCE.resetRadiation();
         transparentRenderers.clear();
+        TransporterItemBatcher.INSTANCE.clear();
     }
 
     public static void resetCached() {
@@ -138,7 +141,15 @@ public class RenderTickHandler {
 
     @SubscribeEvent
     public void renderWorld(RenderLevelStageEvent event) {
-        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES) {
+            //Render all the items in transit that transporters queued while rendering
+            renderStage(event, TransporterItemBatcher.INSTANCE.hasQueued(), (camera, renderer, poseStack, renderTick, partialTick) -> {
+                ProfilerFiller profiler = minecraft.getProfiler();
+                profiler.push(ProfilerConstants.TRANSPORTER_ITEMS);
+                TransporterItemBatcher.INSTANCE.render(camera, poseStack, renderer, minecraft.level);
+                profiler.pop();
+            });
+        } else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
             //Only do matrix transforms and mess with buffers if we actually have any renders to render
             renderStage(event, !transparentRenderers.isEmpty(), (camera, renderer, poseStack, renderTick, partialTick) -> {
                 ProfilerFiller profiler = minecraft.getProfiler();
@@ -213,6 +224,13 @@ public class RenderTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void addDebugText(CustomizeGuiOverlayEvent.DebugText event) {
+        if (minecraft.options.renderDebug) {
+            RenderModelCache.addDebugText(event.getRight());
+        }
+    }
+
     @SubscribeEvent
     public void renderCrosshair(RenderGuiOverlayEvent.Pre event) {
         if (event.getOverlay() == VanillaGuiOverlay.CROSSHAIR.type() && minecraft.screen instanceof GuiRadialSelector screen && screen.shouldHideCrosshair()) {
@@ -2,15 +2,13 @@ package mekanism.client.render.tileentity;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-import java.util.HashMap;
-import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.MekanismRenderer.FluidTextureType;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.ModelRenderer;
+import mekanism.client.render.RenderModelCache;
+import mekanism.client.render.RenderModelCache.ModelKey;
 import mekanism.client.render.RenderResizableCuboid.FaceDisplay;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.tile.TileEntityFluidTank;
@@ -27,8 +25,8 @@ import org.jetbrains.annotations.NotNull;
 @NothingNullByDefault
 public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidTank> {
 
-    private static final Map<FluidStack, Int2ObjectMap<Model3D>> cachedCenterFluids = new HashMap<>();
-    private static final Map<FluidStack, Int2ObjectMap<Model3D>> cachedValveFluids = new HashMap<>();
+    private static final RenderModelCache<ModelKey> cachedCenterFluids = new RenderModelCache<>("fluidTankCenter", 1_024);
+    private static final RenderModelCache<ModelKey> cachedValveFluids = new RenderModelCache<>("fluidTankValve", 1_024);
 
     private static final int stages = 1_400;
 
@@ -63,25 +61,23 @@ public class RenderFluidTank extends MekanismTileEntityRenderer<TileEntityFluidT
     }
 
     private Model3D getValveModel(@NotNull FluidStack fluid, float fluidScale) {
-        return cachedValveFluids.computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>())
-              .computeIfAbsent(Math.min(stages - 1, (int) (fluidScale * (stages - 1))), stage -> new Model3D()
-                    .setSideRender(side -> side.getAxis().isHorizontal())
-                    .prepFlowing(fluid)
-                    .xBounds(0.3225F, 0.6775F)
-                    .yBounds(0.0625F + 0.875F * (stage / (float) stages), 0.9375F)
-                    .zBounds(0.3225F, 0.6775F)
-              );
+        return cachedValveFluids.get(ModelKey.of(fluid, 0, Math.min(stages - 1, (int) (fluidScale * (stages - 1)))), key -> new Model3D()
+              .setSideRender(side -> side.getAxis().isHorizontal())
+              .prepFlowing(fluid)
+              .xBounds(0.3225F, 0.6775F)
+              .yBounds(0.0625F + 0.875F * (key.stage() / (float) stages), 0.9375F)
+              .zBounds(0.3225F, 0.6775F)
+        );
     }
 
     public static Model3D getFluidModel(@NotNull FluidStack fluid, float fluidScale) {
-        return cachedCenterFluids.computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>())
-              .computeIfAbsent(ModelRenderer.getStage(fluid, stages, fluidScale), stage -> new Model3D()
-                    .setTexture(MekanismRenderer.getFluidTexture(fluid, FluidTextureType.STILL))
-                    .setSideRender(Direction.DOWN, false)
-                    .setSideRender(Direction.UP, stage < stages)
-                    .xBounds(0.135F, 0.865F)
-                    .yBounds(0.0625F, 0.0625F + 0.875F * (stage / (float) stages))
-                    .zBounds(0.135F, 0.865F)
-              );
+        return cachedCenterFluids.get(ModelKey.of(fluid, 0, ModelRenderer.getStage(fluid, stages, fluidScale)), key -> new Model3D()
+              .setTexture(MekanismRenderer.getFluidTexture(fluid, FluidTextureType.STILL))
+              .setSideRender(Direction.DOWN, false)
+              .setSideRender(Direction.UP, key.stage() < stages)
+              .xBounds(0.135F, 0.865F)
+              .yBounds(0.0625F, 0.0625F + 0.875F * (key.stage() / (float) stages))
+              .zBounds(0.135F, 0.865F)
+        );
     }
 }
\ No newline at end of file
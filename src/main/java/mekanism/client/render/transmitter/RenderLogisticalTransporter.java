@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.annotations.NothingNullByDefault;
@@ -59,6 +60,9 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     private static SpriteInfo torchOnIcon;
     private final ModelTransporterBox modelBox;
     private final LazyItemRenderer itemRenderer = new LazyItemRenderer();
+    //Note: These are reused between renders to avoid allocating new collections every frame for every transporter
+    private final List<TransporterStack> reducedTransit = new ArrayList<>();
+    private final Set<TransportInformation> transportInformation = new ObjectOpenHashSet<>();
 
     public RenderLogisticalTransporter(BlockEntityRendererProvider.Context context) {
         super(context);
@@ -81,21 +85,29 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
             Collection<TransporterStack> inTransit = transporter.getTransit();
             if (!inTransit.isEmpty()) {
                 matrix.pushPose();
-                itemRenderer.init(tile.getLevel(), pos);
-
+                boolean batched = TransporterItemBatcher.isEnabled();
+                if (!batched) {
+                    itemRenderer.init(tile.getLevel(), pos);
+                }
                 float partial = partialTick * transporter.tier.getSpeed();
-                Collection<TransporterStack> reducedTransit = getReducedTransit(inTransit);
-                for (TransporterStack stack : reducedTransit) {
+                for (TransporterStack stack : getReducedTransit(inTransit)) {
                     float[] stackPos = TransporterUtils.getStackPosition(transporter, stack, partial);
-                    matrix.pushPose();
-                    matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
-                    matrix.scale(0.75F, 0.75F, 0.75F);
-                    itemRenderer.renderAsStack(matrix, renderer, stack.itemStack, light);
-                    matrix.popPose();
+                    if (batched) {
+                        //Queue the item to be rendered with all the other items in transit, so that they can be rendered together
+                        TransporterItemBatcher.INSTANCE.queue(getCamera(), stack.itemStack, pos.getX() + stackPos[0], pos.getY() + stackPos[1],
+                              pos.getZ() + stackPos[2], light);
+                    } else {
+                        matrix.pushPose();
+                        matrix.translate(stackPos[0], stackPos[1], stackPos[2]);
+                        matrix.scale(0.75F, 0.75F, 0.75F);
+                        itemRenderer.renderAsStack(matrix, renderer, stack.itemStack, light);
+                        matrix.popPose();
+                    }
                     if (stack.color != null) {
                         modelBox.render(matrix, renderer, LightTexture.FULL_BRIGHT, overlayLight, stackPos[0], stackPos[1], stackPos[2], stack.color);
                     }
                 }
+                reducedTransit.clear();
                 matrix.popPose();
             }
         }
@@ -131,16 +143,15 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
     /**
      * Shrink the in transit list as much as possible. Don't try to render things of the same type that are in the same spot with the same color, ignoring stack size
      */
-    private Collection<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit) {
-        Collection<TransporterStack> reducedTransit = new ArrayList<>();
-        Set<TransportInformation> information = new ObjectOpenHashSet<>();
+    private List<TransporterStack> getReducedTransit(Collection<TransporterStack> inTransit) {
         for (TransporterStack stack : inTransit) {
-            if (stack != null && !stack.itemStack.isEmpty() && information.add(new TransportInformation(stack))) {
+            if (stack != null && !stack.itemStack.isEmpty() && transportInformation.add(new TransportInformation(stack))) {
                 //Ensure the stack is valid AND we did not already have information matching the stack
                 //We use add to check if it already contained the value, so that we only have to query the set once
                 reducedTransit.add(stack);
             }
         }
+        transportInformation.clear();
         return reducedTransit;
     }
 
@@ -168,7 +179,8 @@ public class RenderLogisticalTransporter extends RenderTransmitterBase<TileEntit
         private TransportInformation(TransporterStack transporterStack) {
             this.progress = transporterStack.progress;
             this.color = transporterStack.color;
-            this.item = HashedItem.create(transporterStack.itemStack);
+            //Note: We can use the raw stack as the information is only used while rendering the current frame
+            this.item = HashedItem.raw(transporterStack.itemStack);
         }
 
         @Override
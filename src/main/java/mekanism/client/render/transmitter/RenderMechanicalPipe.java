@@ -2,20 +2,17 @@ package mekanism.client.render.transmitter;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.client.render.MekanismRenderer;
 import mekanism.client.render.MekanismRenderer.FluidTextureType;
 import mekanism.client.render.MekanismRenderer.Model3D;
 import mekanism.client.render.MekanismRenderer.Model3D.ModelBoundsSetter;
 import mekanism.client.render.ModelRenderer;
+import mekanism.client.render.RenderModelCache;
+import mekanism.client.render.RenderModelCache.ModelKey;
 import mekanism.client.render.RenderResizableCuboid.FaceDisplay;
 import mekanism.common.base.ProfilerConstants;
 import mekanism.common.content.network.FluidNetwork;
@@ -41,9 +38,8 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
     private static final int stages = 100;
     private static final float height = 0.45F;
     private static final float offset = 0.02F;
-    //Note: this is basically used as an enum map (Direction), but null key is possible, which EnumMap doesn't support.
-    // 6 is used for null side, and 7 is used for null side but flowing vertically
-    private static final Int2ObjectMap<Map<FluidStack, Int2ObjectMap<Model3D>>> cachedLiquids = new Int2ObjectArrayMap<>(8);
+    //Note: The variant of the key is the side, but null is possible, so 6 is used for null side, and 7 is used for null side but flowing vertically
+    private static final RenderModelCache<ModelKey> cachedLiquids = new RenderModelCache<>("mechanicalPipe", 2_048);
 
     public RenderMechanicalPipe(BlockEntityRendererProvider.Context context) {
         super(context);
@@ -144,10 +140,9 @@ public class RenderMechanicalPipe extends RenderTransmitterBase<TileEntityMechan
         } else {
             sideOrdinal = side.ordinal();
         }
-        return cachedLiquids.computeIfAbsent(sideOrdinal, s -> new HashMap<>())
-              .computeIfAbsent(fluid, f -> new Int2ObjectOpenHashMap<>())
-              .computeIfAbsent(stage, s -> {
-                  float stageRatio = (s / (float) stages) * height;
+        return cachedLiquids.get(ModelKey.of(fluid, sideOrdinal, stage),
+              key -> {
+                  float stageRatio = (key.stage() / (float) stages) * height;
                   Model3D model = new Model3D()
                         .setTexture(MekanismRenderer.getFluidTexture(fluid, FluidTextureType.STILL));
                   if (side == null) {
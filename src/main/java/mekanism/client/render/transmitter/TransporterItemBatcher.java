@@ -0,0 +1,147 @@
+package mekanism.client.render.transmitter;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.Sheets;
+import net.minecraft.client.renderer.entity.ItemRenderer;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.client.model.data.ModelData;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+/**
+ * Collects the items in transit on all visible logistical transporters during a frame, so that they can be rendered together grouped by item rather than each
+ * transporter rendering its items through a fake item entity.
+ */
+@NothingNullByDefault
+public class TransporterItemBatcher {
+
+    public static final TransporterItemBatcher INSTANCE = new TransporterItemBatcher();
+
+    private static final float SCALE = 0.75F;
+    private static final float SIMPLIFIED_SIZE = 0.125F;
+
+    private final Map<HashedItem, List<QueuedItem>> queued = new Object2ObjectLinkedOpenHashMap<>();
+    private final Deque<List<QueuedItem>> unusedLists = new ArrayDeque<>();
+
+    private TransporterItemBatcher() {
+    }
+
+    public static boolean isEnabled() {
+        return MekanismConfig.client.batchTransporterItems.get();
+    }
+
+    public boolean hasQueued() {
+        return !queued.isEmpty();
+    }
+
+    /**
+     * Queues an item to be rendered at the given position, if it is within the configured render distance of the camera.
+     */
+    public void queue(Camera camera, ItemStack stack, double x, double y, double z, int light) {
+        double renderDistance = MekanismConfig.client.transporterItemRenderDistance.get();
+        double distanceSqr = camera.getPosition().distanceToSqr(x, y, z);
+        if (distanceSqr <= renderDistance * renderDistance) {
+            double detailDistance = MekanismConfig.client.transporterItemDetailDistance.get();
+            //Note: We can use the raw stack as the queue is cleared at the end of the frame
+            queued.computeIfAbsent(HashedItem.raw(stack), item -> {
+                List<QueuedItem> items = unusedLists.poll();
+                return items == null ? new ArrayList<>() : items;
+            }).add(new QueuedItem(x, y, z, light, distanceSqr > detailDistance * detailDistance));
+        }
+    }
+
+    /**
+     * Renders all queued items.
+     *
+     * @param matrix Matrix that has been translated so that the origin is at world position zero.
+     */
+    public void render(Camera camera, PoseStack matrix, MultiBufferSource.BufferSource renderer, Level level) {
+        ItemRenderer itemRenderer = Minecraft.getInstance().getItemRenderer();
+        VertexConsumer simplifiedBuffer = null;
+        for (Map.Entry<HashedItem, List<QueuedItem>> entry : queued.entrySet()) {
+            ItemStack stack = entry.getKey().getInternalStack();
+            //Look up the model once for all the copies of this item
+            BakedModel model = itemRenderer.getModel(stack, level, null, 0);
+            float yOffset = 0.1F + 0.25F * model.getTransforms().getTransform(ItemDisplayContext.GROUND).scale.y();
+            TextureAtlasSprite sprite = null;
+            List<QueuedItem> items = entry.getValue();
+            for (QueuedItem item : items) {
+                matrix.pushPose();
+                matrix.translate(item.x, item.y, item.z);
+                matrix.scale(SCALE, SCALE, SCALE);
+                if (item.simplified) {
+                    //Far away items are just drawn as a single quad of their particle texture facing the camera
+                    if (sprite == null) {
+                        sprite = model.getParticleIcon(ModelData.EMPTY);
+                    }
+                    if (simplifiedBuffer == null) {
+                        simplifiedBuffer = renderer.getBuffer(Sheets.cutoutBlockSheet());
+                    }
+                    matrix.translate(0, yOffset, 0);
+                    matrix.mulPose(camera.rotation());
+                    renderSimplified(matrix, simplifiedBuffer, sprite, item.light);
+                } else {
+                    matrix.translate(0, yOffset, 0);
+                    itemRenderer.render(stack, ItemDisplayContext.GROUND, false, matrix, renderer, item.light, OverlayTexture.NO_OVERLAY, model);
+                }
+                matrix.popPose();
+            }
+            items.clear();
+            unusedLists.push(items);
+        }
+        queued.clear();
+        renderer.endBatch();
+    }
+
+    private static void renderSimplified(PoseStack matrix, VertexConsumer buffer, TextureAtlasSprite sprite, int light) {
+        PoseStack.Pose pose = matrix.last();
+        Matrix4f matrix4f = pose.pose();
+        Matrix3f normal = pose.normal();
+        vertex(buffer, matrix4f, normal, -SIMPLIFIED_SIZE, -SIMPLIFIED_SIZE, sprite.getU0(), sprite.getV1(), light);
+        vertex(buffer, matrix4f, normal, SIMPLIFIED_SIZE, -SIMPLIFIED_SIZE, sprite.getU1(), sprite.getV1(), light);
+        vertex(buffer, matrix4f, normal, SIMPLIFIED_SIZE, SIMPLIFIED_SIZE, sprite.getU1(), sprite.getV0(), light);
+        vertex(buffer, matrix4f, normal, -SIMPLIFIED_SIZE, SIMPLIFIED_SIZE, sprite.getU0(), sprite.getV0(), light);
+    }
+
+    private static void vertex(VertexConsumer buffer, Matrix4f matrix, Matrix3f normal, float x, float y, float u, float v, int light) {
+        buffer.vertex(matrix, x, y, 0)
+              .color(0xFF, 0xFF, 0xFF, 0xFF)
+              .uv(u, v)
+              .overlayCoords(OverlayTexture.NO_OVERLAY)
+              .uv2(light)
+              .normal(normal, 0, 0, 1)
+              .endVertex();
+    }
+
+    /**
+     * Clears any queued items without rendering them.
+     */
+    public void clear() {
+        for (List<QueuedItem> items : queued.values()) {
+            items.clear();
+            unusedLists.push(items);
+        }
+        queued.clear();
+    }
+
+    private record QueuedItem(double x, double y, double z, int light, boolean simplified) {
+    }
+}
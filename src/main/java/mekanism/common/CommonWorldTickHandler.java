@@ -17,8 +17,10 @@ import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileTickScheduler;
 import mekanism.common.util.WorldUtils;
-import mekanism.common.world.GenHandler;
+import mekanism.common.world.RetrogenPipeline;
+import mekanism.common.world.RetrogenPipeline.RetrogenStatus;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -52,6 +54,7 @@ public class CommonWorldTickHandler {
     // but there is a chance this is not the case in which case we should adjust how this is done
     private Map<ResourceLocation, Object2IntMap<ChunkPos>> chunkVersions;
     private Map<ResourceLocation, Queue<ChunkPos>> chunkRegenMap;
+    private final Map<ResourceLocation, RetrogenPipeline> retrogenPipelines = new Object2ObjectArrayMap<>();
     public static boolean flushTagAndRecipeCaches;
     public static boolean monitoringCardboardBox;
     @Nullable
@@ -77,6 +80,18 @@ public class CommonWorldTickHandler {
     public void resetChunkData() {
         chunkRegenMap = null;
         chunkVersions = null;
+        retrogenPipelines.clear();
+    }
+
+    public RetrogenStatus getRetrogenStatus(ResourceKey<Level> dimension) {
+        ResourceLocation dimensionName = dimension.location();
+        Queue<ChunkPos> chunksToGen = chunkRegenMap == null ? null : chunkRegenMap.get(dimensionName);
+        int queued = chunksToGen == null ? 0 : chunksToGen.size();
+        RetrogenPipeline pipeline = retrogenPipelines.get(dimensionName);
+        if (pipeline == null) {
+            return new RetrogenStatus(queued, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return pipeline.getStatus(queued);
     }
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
@@ -163,9 +178,14 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void worldUnloadEvent(LevelEvent.Unload event) {
         LevelAccessor world = event.getLevel();
-        if (!world.isClientSide() && world instanceof Level level && chunkVersions != null) {
-            //When a world unloads, free up memory tracking the versions of the chunks in it
-            chunkVersions.remove(level.dimension().location());
+        if (!world.isClientSide() && world instanceof Level level) {
+            ResourceLocation dimensionName = level.dimension().location();
+            if (chunkVersions != null) {
+                //When a world unloads, free up memory tracking the versions of the chunks in it
+                chunkVersions.remove(dimensionName);
+            }
+            //And stop any retrogen that was in progress for it
+            retrogenPipelines.remove(dimensionName);
         }
     }
 
@@ -181,8 +201,12 @@ public class CommonWorldTickHandler {
 
     @SubscribeEvent
     public void onTick(ServerTickEvent event) {
-        if (event.side.isServer() && event.phase == Phase.END) {
-            serverTick();
+        if (event.side.isServer()) {
+            if (event.phase == Phase.START) {
+                TileTickScheduler.onServerTickStart();
+            } else if (event.phase == Phase.END) {
+                serverTick();
+            }
         }
     }
 
@@ -222,27 +246,10 @@ public class CommonWorldTickHandler {
                 Queue<ChunkPos> chunksToGen = chunkRegenMap.get(dimensionName);
                 //Chunk versions may be null if retrogen is forced by command
                 Object2IntMap<ChunkPos> dimensionChunkVersions = chunkVersions == null ? Object2IntMaps.emptyMap() : chunkVersions.getOrDefault(dimensionName, Object2IntMaps.emptyMap());
-                long startTime = System.nanoTime();
-                while (System.nanoTime() - startTime < maximumDeltaTimeNanoSecs && !chunksToGen.isEmpty()) {
-                    ChunkPos nextChunk = chunksToGen.poll();
-                    if (nextChunk == null) {
-                        break;
-                    }
-                    //Ensure the chunk actually exists and is still loaded before trying to retrogen it
-                    if (WorldUtils.isChunkLoaded(world, nextChunk)) {
-                        if (GenHandler.generate(world, nextChunk)) {
-                            Mekanism.logger.info("Regenerating ores and salt at chunk {}", nextChunk);
-                        }
-                        //Regardless of whether we were able to generate anything in the chunk, now that we have
-                        // handled it, update the chunk version. We do this by removing tracking the chunk's
-                        // version so that we can just default it to the latest version when saved and free up the
-                        // memory as early as possible
-                        if (chunkVersions != null) {
-                            dimensionChunkVersions.removeInt(nextChunk);
-                        }
-                    }
-                }
-                if (chunksToGen.isEmpty()) {
+                //Plan the chunks off thread and apply the planned changes within our time budget
+                RetrogenPipeline pipeline = retrogenPipelines.computeIfAbsent(dimensionName, dimension -> new RetrogenPipeline());
+                pipeline.tick(world, chunksToGen, dimensionChunkVersions, maximumDeltaTimeNanoSecs);
+                if (chunksToGen.isEmpty() && pipeline.isIdle()) {
                     chunkRegenMap.remove(dimensionName);
                 }
             }
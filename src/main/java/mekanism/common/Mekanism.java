@@ -56,7 +56,9 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.FullCanteenItemPredicate;
 import mekanism.common.item.predicate.MaxedModuleContainerItemPredicate;
+import mekanism.common.lib.ItemEntityIndex;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.Version;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
@@ -93,6 +95,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.base.TileTickScheduler;
 import mekanism.common.tile.component.TileComponentChunkLoader.ChunkValidationCallback;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.world.GenHandler;
@@ -287,6 +290,8 @@ public class Mekanism {
     }
 
     private void serverStopped(ServerStoppedEvent event) {
+        //Make sure any data that is still being written from the final save has finished being written
+        MekanismSavedData.flushSaves();
         //Clear all cache data, wait until server stopper though so that we make sure saving can use any data it needs
         playerState.clear(false);
         activeVibrators.clear();
@@ -304,6 +309,8 @@ public class Mekanism {
         TransmitterNetworkRegistry.reset();
         GenHandler.reset();
         PersonalStorageManager.reset();
+        TileTickScheduler.reset();
+        ItemEntityIndex.reset();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -421,6 +428,7 @@ public class Mekanism {
         // when the server shuts down
         if (event.getLevel() instanceof ServerLevel level) {
             MekFakePlayer.releaseInstance(level);
+            ItemEntityIndex.onLevelUnload(level);
         }
         if (event.getLevel() instanceof Level level && MekanismConfig.general.validOredictionificatorFilters.hasInvalidationListeners()) {
             //Remove any invalidation listeners that loaded oredictionificators might have added if the OD was in the given level
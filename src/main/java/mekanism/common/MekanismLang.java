@@ -157,8 +157,20 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_RADIATION_REDUCE_TARGET("command", "radiation.reduce.target"),
     COMMAND_RADIATION_REMOVE_ALL("command", "radiation.remove_all"),
     COMMAND_RETROGEN_CHUNK_QUEUED("command", "retrogen.chunk_queued"),
+    COMMAND_RETROGEN_STATUS("command", "retrogen.status"),
+    COMMAND_RETROGEN_STATUS_PROGRESS("command", "retrogen.status.progress"),
     COMMAND_ERROR_RETROGEN_DISABLED("command", "error.retrogen.disabled"),
     COMMAND_ERROR_RETROGEN_FAILURE("command", "error.retrogen.failure"),
+    COMMAND_TICKS_START("command", "tile_ticks.start"),
+    COMMAND_TICKS_STOP("command", "tile_ticks.stop"),
+    COMMAND_TICKS_STATUS("command", "tile_ticks.status"),
+    COMMAND_TICKS_TOP("command", "tile_ticks.top"),
+    COMMAND_TICKS_ENTRY("command", "tile_ticks.entry"),
+    COMMAND_TICKS_POSITION("command", "tile_ticks.position"),
+    COMMAND_ERROR_TICKS_NO_DATA("command", "error.tile_ticks.no_data"),
+    COMMAND_SAVES("command", "saves"),
+    COMMAND_SAVES_ENTRY("command", "saves.entry"),
+    COMMAND_ERROR_SAVES_NO_DATA("command", "error.saves.no_data"),
     //Transmission types
     TRANSMISSION_TYPE_ENERGY("transmission", "energy"),
     TRANSMISSION_TYPE_FLUID("transmission", "fluids"),
@@ -54,7 +54,9 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_RADIATION_REDUCE_OTHERS = nodeSubCommand(COMMAND_RADIATION_REDUCE, "others");
     public static final CommandPermissionNode COMMAND_RADIATION_REMOVE_ALL = nodeSubCommand(COMMAND_RADIATION, "remove.all");
 
+    public static final CommandPermissionNode COMMAND_SAVES = nodeOpCommand("saves");
     public static final CommandPermissionNode COMMAND_TEST_RULES = nodeOpCommand("test_rules");
+    public static final CommandPermissionNode COMMAND_TILE_TICKS = nodeOpCommand("tile_ticks");
     public static final CommandPermissionNode COMMAND_TP = nodeOpCommand("tp");
     public static final CommandPermissionNode COMMAND_TP_POP = nodeOpCommand("tp_pop");
 
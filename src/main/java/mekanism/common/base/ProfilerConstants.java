@@ -38,6 +38,7 @@ public class ProfilerConstants {
 
     //Lazy/delayed rendering
     public static final String DELAYED = "delayedMekanismTranslucentBERs";
+    public static final String TRANSPORTER_ITEMS = "batchedTransporterItems";
     public static final String ENERGY_CUBE_CORE = ENERGY_CUBE + "." + CORE;
     public static final String SPS_CORE = SPS + "." + CORE;
     public static final String SPS_ORBIT = SPS + ".orbitEffect";
@@ -11,12 +11,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import mekanism.common.block.interfaces.IHasTileEntity;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
+import mekanism.common.lib.collection.BoundedCache;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tags.TagUtils;
@@ -40,11 +43,24 @@ public final class TagCache {
     private TagCache() {
     }
 
+    /**
+     * Maximum number of tag names to cache the contents of, per cache.
+     */
+    private static final int MAX_CACHED_TAG_NAMES = 256;
+
     private static final Map<String, MatchingStacks> blockTagStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> itemTagStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, List<ItemStack>> itemModIDStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<String, MatchingStacks> blockModIDStacks = new Object2ObjectOpenHashMap<>();
     private static final Map<Block, List<String>> tileEntityTypeTagCache = new IdentityHashMap<>();
+    //Note: These caches are concurrent as they are queried from both the client (QIO searches) and the server (QIO frequencies and filters).
+    // Items and tag keys don't override equals, so they are identity keyed
+    private static final Map<Item, List<String>> itemTagCache = new ConcurrentHashMap<>();
+    private static final Map<TagKey<?>, String> tagNameCache = new ConcurrentHashMap<>();
+    //Note: These caches are keyed by tag names from filters, which may contain wildcards, so they are bounded as there can be any number of them
+    private static final BoundedCache<String, Set<Item>> itemTagItems = new BoundedCache<>(MAX_CACHED_TAG_NAMES);
+    private static final BoundedCache<String, Set<Block>> blockTagBlocks = new BoundedCache<>(MAX_CACHED_TAG_NAMES);
+    private static final BoundedCache<String, Set<String>> itemTagNamesMatching = new BoundedCache<>(MAX_CACHED_TAG_NAMES);
 
     private static final Object2BooleanMap<String> blockTagBlacklistedElements = new Object2BooleanOpenHashMap<>();
     private static final Object2BooleanMap<String> modIDBlacklistedElements = new Object2BooleanOpenHashMap<>();
@@ -53,13 +69,22 @@ public final class TagCache {
         blockTagStacks.clear();
         itemTagStacks.clear();
         tileEntityTypeTagCache.clear();
+        itemTagCache.clear();
+        tagNameCache.clear();
+        itemTagItems.clear();
+        blockTagBlocks.clear();
+        itemTagNamesMatching.clear();
         //These maps have the boolean value be based on if an element is in a given tag
         blockTagBlacklistedElements.clear();
         modIDBlacklistedElements.clear();
     }
 
+    /**
+     * @return Unmodifiable list of the names of the tags the given stack's item is in. The list is cached per item, and the same name instance is shared between all
+     * items that are in a given tag.
+     */
     public static List<String> getItemTags(@NotNull ItemStack check) {
-        return getTagsAsStrings(check.getTags());
+        return itemTagCache.computeIfAbsent(check.getItem(), item -> getTagsAsStrings(item.builtInRegistryHolder().tags()));
     }
 
     public static List<String> getTileEntityTypeTags(@NotNull Block block) {
@@ -85,7 +110,44 @@ public final class TagCache {
     }
 
     public static <TYPE> List<String> getTagsAsStrings(@NotNull Stream<TagKey<TYPE>> tags) {
-        return tags.map(tag -> tag.location().toString()).toList();
+        return tags.map(TagCache::getTagName).toList();
+    }
+
+    private static String getTagName(TagKey<?> tag) {
+        return tagNameCache.computeIfAbsent(tag, t -> t.location().toString());
+    }
+
+    /**
+     * @param tagName Tag name, may contain wildcards.
+     *
+     * @return Unmodifiable set of the names of all item tags matching the given name.
+     */
+    public static Set<String> getItemTagsMatching(@NotNull String tagName) {
+        return itemTagNamesMatching.computeIfAbsent(tagName, name -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(name);
+            return TagUtils.manager(ForgeRegistries.ITEMS).stream()
+                  .map(tag -> getTagName(tag.getKey()))
+                  .filter(matcher)
+                  .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    /**
+     * @param tagName Tag name, may contain wildcards.
+     *
+     * @return All items that are in a tag matching the given name.
+     */
+    public static Set<Item> getItemsInTag(@NotNull String tagName) {
+        return itemTagItems.computeIfAbsent(tagName, name -> collectTagStacks(TagUtils.manager(ForgeRegistries.ITEMS), name, item -> true));
+    }
+
+    /**
+     * @param tagName Tag name, may contain wildcards.
+     *
+     * @return All blocks that are in a tag matching the given name.
+     */
+    public static Set<Block> getBlocksInTag(@NotNull String tagName) {
+        return blockTagBlocks.computeIfAbsent(tagName, name -> collectTagStacks(TagUtils.manager(ForgeRegistries.BLOCKS), name, block -> true));
     }
 
     public static List<ItemStack> getItemTagStacks(@NotNull String tagName) {
@@ -103,10 +165,11 @@ public final class TagCache {
     }
 
     private static <TYPE extends ItemLike> Set<TYPE> collectTagStacks(ITagManager<TYPE> tagManager, String tagName, Predicate<TYPE> validElement) {
-        return tagManager.stream().filter(tag -> WildcardMatcher.matches(tagName, tag.getKey()))
+        CompiledWildcard matcher = WildcardMatcher.compile(tagName);
+        return tagManager.stream().filter(tag -> matcher.matches(tag.getKey()))
               .flatMap(ITag::stream)
               .filter(validElement)
-              .collect(Collectors.toSet());
+              .collect(Collectors.toCollection(ReferenceOpenHashSet::new));
     }
 
     private static MatchingStacks getMatching(Set<Block> blocks) {
@@ -119,6 +182,7 @@ public final class TagCache {
 
     public static List<ItemStack> getItemModIDStacks(@NotNull String modName) {
         return itemModIDStacks.computeIfAbsent(modName, name -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(name);
             List<ItemStack> stacks = new ArrayList<>();
             for (Item item : ForgeRegistries.ITEMS.getValues()) {
                 //Ugly check to make sure we don't include our bounding block in render list. Eventually this should maybe just use getRenderShape() with a dummy BlockState
@@ -126,7 +190,7 @@ public final class TagCache {
                     //Note: We get the modid based on the stack so that if there is a mod that has a different modid for an item
                     // that isn't based on NBT it can properly change the modid (this is unlikely to happen, but you never know)
                     ItemStack stack = new ItemStack(item);
-                    if (!stack.isEmpty() && WildcardMatcher.matches(name, MekanismUtils.getModId(stack))) {
+                    if (!stack.isEmpty() && matcher.test(MekanismUtils.getModId(stack))) {
                         stacks.add(stack);
                     }
                 }
@@ -137,11 +201,12 @@ public final class TagCache {
 
     public static MatchingStacks getBlockModIDStacks(@NotNull String modName) {
         return blockModIDStacks.computeIfAbsent(modName, name -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(name);
             Set<Block> blocks = new ReferenceOpenHashSet<>();
             for (Entry<ResourceKey<Block>, Block> entry : ForgeRegistries.BLOCKS.getEntries()) {
                 Block block = entry.getValue();
                 //Ugly check to make sure we don't include our bounding block in render list. Eventually this should maybe just use getRenderShape() with a dummy BlockState
-                if (block != MekanismBlocks.BOUNDING_BLOCK.getBlock() && WildcardMatcher.matches(name, entry.getKey().location().getNamespace())) {
+                if (block != MekanismBlocks.BOUNDING_BLOCK.getBlock() && matcher.test(entry.getKey().location().getNamespace())) {
                     blocks.add(block);
                 }
             }
@@ -153,9 +218,12 @@ public final class TagCache {
         if (MekanismTags.Blocks.MINER_BLACKLIST_LOOKUP.isEmpty()) {
             return false;
         }
-        return blockTagBlacklistedElements.computeIfAbsent(tag, (String t) -> TagUtils.manager(ForgeRegistries.BLOCKS).stream().anyMatch(blockTag ->
-              WildcardMatcher.matches(t, blockTag.getKey()) && blockTag.stream().anyMatch(MekanismTags.Blocks.MINER_BLACKLIST_LOOKUP::contains)
-        ));
+        return blockTagBlacklistedElements.computeIfAbsent(tag, (String t) -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(t);
+            return TagUtils.manager(ForgeRegistries.BLOCKS).stream().anyMatch(blockTag ->
+                  matcher.matches(blockTag.getKey()) && blockTag.stream().anyMatch(MekanismTags.Blocks.MINER_BLACKLIST_LOOKUP::contains)
+            );
+        });
     }
 
     public static boolean modIDHasMinerBlacklisted(@NotNull String modName) {
@@ -163,9 +231,10 @@ public final class TagCache {
             return false;
         }
         return modIDBlacklistedElements.computeIfAbsent(modName, (String name) -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(name);
             for (Entry<ResourceKey<Block>, Block> entry : ForgeRegistries.BLOCKS.getEntries()) {
                 Block block = entry.getValue();
-                if (MekanismTags.Blocks.MINER_BLACKLIST_LOOKUP.contains(block) && WildcardMatcher.matches(name, entry.getKey().location().getNamespace())) {
+                if (MekanismTags.Blocks.MINER_BLACKLIST_LOOKUP.contains(block) && matcher.test(entry.getKey().location().getNamespace())) {
                     return true;
                 }
             }
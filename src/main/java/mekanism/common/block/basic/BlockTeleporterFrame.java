@@ -0,0 +1,36 @@
+package mekanism.common.block.basic;
+
+import java.util.function.UnaryOperator;
+import mekanism.common.block.prefab.BlockBase;
+import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.tile.TileEntityTeleporter;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+public class BlockTeleporterFrame extends BlockBase<BlockType> {
+
+    public BlockTeleporterFrame(BlockType type, UnaryOperator<BlockBehaviour.Properties> propertyModifier) {
+        super(type, propertyModifier);
+    }
+
+    @Override
+    @Deprecated
+    public void onPlace(BlockState state, @NotNull Level world, @NotNull BlockPos pos, @NotNull BlockState oldState, boolean isMoving) {
+        super.onPlace(state, world, pos, oldState, isMoving);
+        if (!world.isClientSide && !oldState.is(this)) {
+            TileEntityTeleporter.onFrameChanged(world, pos);
+        }
+    }
+
+    @Override
+    @Deprecated
+    public void onRemove(@NotNull BlockState state, @NotNull Level world, @NotNull BlockPos pos, @NotNull BlockState newState, boolean isMoving) {
+        super.onRemove(state, world, pos, newState, isMoving);
+        if (!world.isClientSide && !newState.is(this)) {
+            TileEntityTeleporter.onFrameChanged(world, pos);
+        }
+    }
+}
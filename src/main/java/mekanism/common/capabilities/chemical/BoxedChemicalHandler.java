@@ -21,6 +21,13 @@ import org.jetbrains.annotations.Nullable;
 public class BoxedChemicalHandler {
 
     private final Map<ChemicalType, LazyOptional<? extends IChemicalHandler<?, ?>>> handlers = new EnumMap<>(ChemicalType.class);
+    //Gas handlers are looked up far more often than the other types, so keep a direct reference to them
+    @Nullable
+    private LazyOptional<IGasHandler> gasHandler;
+    //Note: Only cached once we are listening for the gas handler to be invalidated, as otherwise we wouldn't know when to stop using it
+    @Nullable
+    private IGasHandler resolvedGasHandler;
+    private boolean listeningToGasHandler;
 
     @Nullable
     @SuppressWarnings("unchecked")
@@ -34,8 +41,27 @@ public class BoxedChemicalHandler {
         return null;
     }
 
+    /**
+     * Equivalent to {@code getHandlerFor(ChemicalType.GAS)} but without having to look up the handler by type.
+     *
+     * @implNote Once {@link #addRefreshListeners(NonNullConsumer)} has been called the resolved handler is cached until the gas handler gets invalidated, so that
+     * networks don't have to resolve it every tick.
+     */
+    @Nullable
+    public IGasHandler getGasHandler() {
+        if (resolvedGasHandler == null && gasHandler != null) {
+            IGasHandler handler = gasHandler.orElse(null);
+            if (listeningToGasHandler) {
+                resolvedGasHandler = handler;
+            }
+            return handler;
+        }
+        return resolvedGasHandler;
+    }
+
     public void addGasHandler(LazyOptional<IGasHandler> lazyHandler) {
         handlers.put(ChemicalType.GAS, lazyHandler);
+        gasHandler = lazyHandler;
     }
 
     public void addInfusionHandler(LazyOptional<IInfusionHandler> lazyHandler) {
@@ -60,5 +86,13 @@ public class BoxedChemicalHandler {
             //Use unchecked generics to add the listener to the source acceptor
             CapabilityUtils.addListener(sourceAcceptor, refreshListener);
         }
+        if (gasHandler != null && !listeningToGasHandler) {
+            listeningToGasHandler = true;
+            gasHandler.addListener(invalidated -> {
+                //Stop using the cached handler as soon as it is invalidated rather than waiting for the acceptor to be refreshed
+                gasHandler = null;
+                resolvedGasHandler = null;
+            });
+        }
     }
 }
\ No newline at end of file
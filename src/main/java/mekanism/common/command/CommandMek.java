@@ -8,13 +8,17 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.lib.MekanismSavedData;
+import mekanism.common.lib.MekanismSavedData.SaveMetrics;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.Coordinates;
@@ -41,7 +45,9 @@ public class CommandMek {
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
               .then(RadiationCommand.register())
+              .then(SavesCommand.register())
               .then(TestRulesCommand.register())
+              .then(TileTicksCommand.register())
               .then(TpCommand.register())
               .then(TppopCommand.register());
     }
@@ -59,6 +65,31 @@ public class CommandMek {
         }
     }
 
+    private static class SavesCommand {
+
+        private static final SimpleCommandExceptionType NO_DATA = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_SAVES_NO_DATA.translate());
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("saves")
+                  .requires(MekanismPermissions.COMMAND_SAVES)
+                  .executes(ctx -> {
+                      Map<String, SaveMetrics> saveMetrics = new TreeMap<>(MekanismSavedData.getSaveMetrics());
+                      if (saveMetrics.isEmpty()) {
+                          throw NO_DATA.create();
+                      }
+                      CommandSourceStack source = ctx.getSource();
+                      source.sendSuccess(() -> MekanismLang.COMMAND_SAVES.translateColored(EnumColor.GRAY, EnumColor.INDIGO, saveMetrics.size()), false);
+                      for (Map.Entry<String, SaveMetrics> entry : saveMetrics.entrySet()) {
+                          SaveMetrics metrics = entry.getValue();
+                          source.sendSuccess(() -> MekanismLang.COMMAND_SAVES_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey(), EnumColor.INDIGO,
+                                TextUtils.format(metrics.size()), EnumColor.INDIGO, TextUtils.format(metrics.snapshotTime() / 1_000_000D), EnumColor.INDIGO,
+                                TextUtils.format(metrics.writeTime() / 1_000_000D)), false);
+                      }
+                      return saveMetrics.size();
+                  });
+        }
+    }
+
     private static class TestRulesCommand {
 
         static ArgumentBuilder<CommandSourceStack, ?> register() {
@@ -8,6 +8,8 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.util.text.TextUtils;
+import mekanism.common.world.RetrogenPipeline.RetrogenStatus;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
@@ -32,7 +34,9 @@ public class ForceRetrogenCommand {
                   BlockPos blockPos = BlockPos.containing(ctx.getSource().getPosition());
                   ColumnPos pos = new ColumnPos(blockPos.getX(), blockPos.getZ());
                   return addChunksToRegen(ctx.getSource(), pos, pos);
-              }).then(Commands.argument("from", ColumnPosArgument.columnPos())
+              }).then(Commands.literal("status")
+                    .executes(ctx -> showStatus(ctx.getSource()))
+              ).then(Commands.argument("from", ColumnPosArgument.columnPos())
                     .executes(ctx -> {
                         ColumnPos from = ColumnPosArgument.getColumnPos(ctx, "from");
                         return addChunksToRegen(ctx.getSource(), from, from);
@@ -41,6 +45,20 @@ public class ForceRetrogenCommand {
                                 ColumnPosArgument.getColumnPos(ctx, "to")))));
     }
 
+    private static int showStatus(CommandSourceStack source) throws CommandSyntaxException {
+        if (!MekanismConfig.world.enableRegeneration.get()) {
+            throw RETROGEN_NOT_ENABLED.create();
+        }
+        ResourceKey<Level> registryKey = source.getLevel().dimension();
+        RetrogenStatus status = Mekanism.worldTickHandler.getRetrogenStatus(registryKey);
+        source.sendSuccess(() -> MekanismLang.COMMAND_RETROGEN_STATUS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, registryKey.location(), EnumColor.INDIGO,
+              status.queued(), EnumColor.INDIGO, status.planning(), EnumColor.INDIGO, status.pendingApply()), false);
+        source.sendSuccess(() -> MekanismLang.COMMAND_RETROGEN_STATUS_PROGRESS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, status.chunksRetrogenned(),
+              EnumColor.INDIGO, TextUtils.format(status.chunksPerSecond()), EnumColor.INDIGO, TextUtils.format(status.planningMillis()), EnumColor.INDIGO,
+              status.blocksChanged(), EnumColor.INDIGO, status.blocksSkipped()), false);
+        return status.queued() + status.planning() + status.pendingApply();
+    }
+
     private static int addChunksToRegen(CommandSourceStack source, ColumnPos start, ColumnPos end) throws CommandSyntaxException {
         if (!MekanismConfig.world.enableRegeneration.get()) {
             throw RETROGEN_NOT_ENABLED.create();
@@ -0,0 +1,96 @@
+package mekanism.common.command;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiFunction;
+import mekanism.api.text.EnumColor;
+import mekanism.common.MekanismLang;
+import mekanism.common.base.MekanismPermissions;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.tile.base.TileTickScheduler;
+import mekanism.common.tile.base.TileTickScheduler.TickCost;
+import mekanism.common.tile.base.TileTickScheduler.TickCostSort;
+import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.network.chat.Component;
+
+public class TileTicksCommand {
+
+    private static final int DEFAULT_COUNT = 10;
+    private static final SimpleCommandExceptionType NO_DATA = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_TICKS_NO_DATA.translate());
+
+    static ArgumentBuilder<CommandSourceStack, ?> register() {
+        return Commands.literal("tile_ticks")
+              .requires(MekanismPermissions.COMMAND_TILE_TICKS)
+              .executes(ctx -> showStatus(ctx.getSource()))
+              .then(Commands.literal("start")
+                    .executes(ctx -> {
+                        TileTickScheduler.startProfiling();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_TICKS_START.translateColored(EnumColor.GRAY), true);
+                        return 0;
+                    })
+              ).then(Commands.literal("stop")
+                    .executes(ctx -> {
+                        TileTickScheduler.stopProfiling();
+                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_TICKS_STOP.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                              TextUtils.format(TileTickScheduler.getProfilingSeconds())), true);
+                        return 0;
+                    })
+              ).then(registerTop("types", TileTickScheduler::getTopTypes))
+              .then(registerTop("positions", TileTickScheduler::getTopPositions));
+    }
+
+    private static ArgumentBuilder<CommandSourceStack, ?> registerTop(String name, BiFunction<TickCostSort, Integer, List<TickCost>> costGetter) {
+        LiteralArgumentBuilder<CommandSourceStack> builder = Commands.literal(name)
+              .executes(ctx -> showTop(ctx.getSource(), costGetter, TickCostSort.TOTAL, DEFAULT_COUNT));
+        for (TickCostSort sort : TickCostSort.values()) {
+            builder.then(Commands.literal(sort.name().toLowerCase(Locale.ROOT))
+                  .executes(ctx -> showTop(ctx.getSource(), costGetter, sort, DEFAULT_COUNT))
+                  .then(Commands.argument("count", IntegerArgumentType.integer(1, 100))
+                        .executes(ctx -> showTop(ctx.getSource(), costGetter, sort, IntegerArgumentType.getInteger(ctx, "count")))));
+        }
+        return builder;
+    }
+
+    private static int showStatus(CommandSourceStack source) {
+        source.sendSuccess(() -> MekanismLang.COMMAND_TICKS_STATUS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, OnOff.of(TileTickScheduler.isProfiling()),
+              EnumColor.INDIGO, MekanismConfig.general.tileTickBudget.get(), EnumColor.INDIGO, TileTickScheduler.getDeferredLastTick()), false);
+        return TileTickScheduler.getDeferredLastTick();
+    }
+
+    private static int showTop(CommandSourceStack source, BiFunction<TickCostSort, Integer, List<TickCost>> costGetter, TickCostSort sort, int count)
+          throws CommandSyntaxException {
+        List<TickCost> costs = costGetter.apply(sort, count);
+        if (costs.isEmpty()) {
+            throw NO_DATA.create();
+        }
+        source.sendSuccess(() -> MekanismLang.COMMAND_TICKS_TOP.translateColored(EnumColor.GRAY, EnumColor.INDIGO, costs.size(), EnumColor.INDIGO,
+              TextUtils.format(TileTickScheduler.getProfilingSeconds()), EnumColor.INDIGO, sort.name().toLowerCase(Locale.ROOT)), false);
+        for (TickCost cost : costs) {
+            source.sendSuccess(() -> MekanismLang.COMMAND_TICKS_ENTRY.translateColored(EnumColor.GRAY, EnumColor.INDIGO, getName(cost), EnumColor.INDIGO,
+                  TextUtils.format(cost.getMeanMicros()), EnumColor.INDIGO, TextUtils.format(cost.getMaxMicros()), EnumColor.INDIGO,
+                  TextUtils.format(cost.getTotalMillis()), EnumColor.INDIGO, cost.getTicks(), EnumColor.INDIGO, cost.getDeferred()), false);
+        }
+        return costs.size();
+    }
+
+    private static Component getName(TickCost cost) {
+        Component name = cost.getState().getBlock().getName();
+        GlobalPos position = cost.getPosition();
+        if (position == null) {
+            return name;
+        }
+        BlockPos pos = position.pos();
+        return MekanismLang.COMMAND_TICKS_POSITION.translate(name, MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()),
+              position.dimension().location());
+    }
+}
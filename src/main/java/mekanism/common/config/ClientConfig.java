@@ -29,6 +29,9 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedBooleanValue holidays;
     public final CachedFloatValue baseSoundVolume;
     public final CachedBooleanValue opaqueTransmitters;
+    public final CachedBooleanValue batchTransporterItems;
+    public final CachedIntValue transporterItemDetailDistance;
+    public final CachedIntValue transporterItemRenderDistance;
     public final CachedBooleanValue allowModeScroll;
     public final CachedBooleanValue reverseHUD;
     public final CachedFloatValue hudScale;
@@ -49,6 +52,8 @@ public class ClientConfig extends BaseMekanismConfig {
     public final CachedIntValue hudDangerColor;
     public final CachedFloatValue hudJitter;
     public final CachedBooleanValue hudCompassEnabled;
+    public final CachedBooleanValue batchGuiRendering;
+    public final CachedBooleanValue guiFrameTimeOverlay;
     public final Map<String, CachedWindowPosition> lastWindowPositions = new HashMap<>();
 
     public final CachedEnumValue<ListSortType> qioItemViewerSortType;
@@ -72,6 +77,12 @@ public class ClientConfig extends BaseMekanismConfig {
               .defineInRange("baseSoundVolume", 1D, 0, 10));
         opaqueTransmitters = CachedBooleanValue.wrap(this, builder.comment("If true, don't render Cables/Pipes/Tubes as transparent and don't render their contents.")
               .define("opaqueTransmitters", false));
+        batchTransporterItems = CachedBooleanValue.wrap(this, builder.comment("If true, items in transit on Logistical Transporters are collected and rendered together at the end of the frame instead of by each transporter, which is a lot faster for large numbers of transporters.")
+              .define("batchTransporterItems", false));
+        transporterItemDetailDistance = CachedIntValue.wrap(this, builder.comment("Range at which items in transit on Logistical Transporters are rendered with their full model when batchTransporterItems is enabled. Beyond this range they are rendered as a single flat quad.")
+              .defineInRange("transporterItemDetailDistance", 24, 0, 1_024));
+        transporterItemRenderDistance = CachedIntValue.wrap(this, builder.comment("Range at which items in transit on Logistical Transporters stop being rendered when batchTransporterItems is enabled.")
+              .defineInRange("transporterItemRenderDistance", 64, 0, 1_024));
         allowModeScroll = CachedBooleanValue.wrap(this, builder.comment("Allow sneak + scroll to change item modes.")
               .define("allowModeScroll", true));
         reverseHUD = CachedBooleanValue.wrap(this, builder.comment("If true will move HUD text alignment and compass rendering to the right side of the screen, and move the MekaSuit module rendering to the left side.")
@@ -113,6 +124,10 @@ public class ClientConfig extends BaseMekanismConfig {
               .defineInRange("hudJitter", 6F, 1F, 100F));
         hudCompassEnabled = CachedBooleanValue.wrap(this, builder.comment("Display a fancy compass when the MekaSuit is worn.")
               .define("mekaSuitHelmetCompass", true));
+        batchGuiRendering = CachedBooleanValue.wrap(this, builder.comment("If true, consecutive slots in Mekanism GUIs that share a texture are drawn in a single draw call, and the geometry of resizable GUI backgrounds is cached on the GPU until their size changes.")
+              .define("batchGuiRendering", false));
+        guiFrameTimeOverlay = CachedBooleanValue.wrap(this, builder.comment("Displays how long Mekanism GUIs take to render, and how many draw calls batchGuiRendering used, in the top left corner of the screen.")
+              .define("guiFrameTimeOverlay", false));
         builder.comment("Last Window Positions. In general these values should not be modified manually.").push(GUI_WINDOW_CATEGORY);
         for (WindowType windowType : WindowType.values()) {
             for (String savePath : windowType.getSavePaths()) {
@@ -39,6 +39,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TICK_BUDGET_CATEGORY = "tile_tick_budget";
 
     private final ForgeConfigSpec configSpec;
 
@@ -127,6 +128,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedLongValue spsOutputTankCapacity;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //Tile Tick Budget
+    public final CachedIntValue tileTickBudget;
+    public final CachedIntValue tileTickMaxDeferral;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -326,6 +330,13 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("Tile Tick Budget Settings").push(TICK_BUDGET_CATEGORY);
+        tileTickBudget = CachedIntValue.wrap(this, builder.comment("Maximum time in microseconds that Mekanism tiles may spend ticking each server tick before idle tiles (redstone disabled or without a recipe) start getting deferred to later ticks. Set to 0 to never defer ticking tiles.")
+              .defineInRange("budget", 0, 0, 1_000_000));
+        tileTickMaxDeferral = CachedIntValue.wrap(this, builder.comment("Maximum number of ticks in a row an idle tile may be deferred for when the tile tick budget has been used up.")
+              .defineInRange("maxDeferral", 20, 1, 1_200));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
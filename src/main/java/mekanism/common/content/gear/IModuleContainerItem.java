@@ -15,7 +15,6 @@ import mekanism.common.MekanismLang;
 import mekanism.common.item.interfaces.IItemHUDProvider;
 import mekanism.common.util.ItemDataUtils;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.player.Player;
@@ -50,8 +49,7 @@ public interface IModuleContainerItem extends IItemHUDProvider {
     }
 
     default boolean hasModule(ItemStack stack, IModuleDataProvider<?> type) {
-        CompoundTag modules = ItemDataUtils.getCompound(stack, NBTConstants.MODULES);
-        return modules.contains(type.getRegistryName().toString(), Tag.TAG_COMPOUND);
+        return ModuleHelper.get().hasModule(stack, type);
     }
 
     default boolean isModuleEnabled(ItemStack stack, IModuleDataProvider<?> type) {
@@ -69,6 +67,7 @@ public interface IModuleContainerItem extends IItemHUDProvider {
             } else {
                 CompoundTag modules = ItemDataUtils.getCompound(stack, NBTConstants.MODULES);
                 modules.remove(type.getRegistryName().toString());
+                ModuleHelper.get().invalidateModules(stack);
                 module.onRemoved(true);
             }
         }
@@ -78,6 +77,7 @@ public interface IModuleContainerItem extends IItemHUDProvider {
         Module<?> module = ModuleHelper.get().load(stack, type);
         if (module == null) {
             ItemDataUtils.getOrAddCompound(stack, NBTConstants.MODULES).put(type.getRegistryName().toString(), new CompoundTag());
+            ModuleHelper.get().invalidateModules(stack);
             ModuleHelper.get().load(stack, type).onAdded(true);
         } else {
             module.setInstalledCount(module.getInstalledCount() + 1);
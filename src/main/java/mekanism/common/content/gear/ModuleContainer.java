@@ -0,0 +1,74 @@
+package mekanism.common.content.gear;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectArrayMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.NBTConstants;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.gear.ICustomModule;
+import mekanism.api.gear.ModuleData;
+import mekanism.common.util.ItemDataUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decoded view of the modules installed on a module container stack. Instances are cached per stack by {@link ModuleHelper} so that ticking and capability queries
+ * don't have to re-read the modules compound and allocate new {@link Module} wrappers every time they are looked up.
+ */
+@NothingNullByDefault
+final class ModuleContainer {
+
+    static final ModuleContainer EMPTY = new ModuleContainer(null, Collections.emptyList());
+
+    /**
+     * The modules compound this container was decoded from. Used as the revision stamp of the container, as any replacement of the stack's tag (syncing, copying
+     * data from another stack, etc.) will result in a different compound instance. In place changes that add or remove modules explicitly invalidate the cache.
+     */
+    @Nullable
+    private final CompoundTag modulesTag;
+    private final List<Module<?>> modules;
+    private final Map<ModuleData<?>, Module<?>> modulesByType;
+
+    ModuleContainer(@Nullable CompoundTag modulesTag, List<Module<?>> modules) {
+        this.modulesTag = modulesTag;
+        this.modules = Collections.unmodifiableList(modules);
+        if (modules.isEmpty()) {
+            this.modulesByType = Collections.emptyMap();
+        } else {
+            this.modulesByType = new Reference2ObjectArrayMap<>(modules.size());
+            for (Module<?> module : modules) {
+                this.modulesByType.put(module.getData(), module);
+            }
+        }
+    }
+
+    @Nullable
+    static CompoundTag getModulesTag(ItemStack stack) {
+        CompoundTag dataMap = ItemDataUtils.getDataMapIfPresent(stack);
+        if (dataMap != null && dataMap.contains(NBTConstants.MODULES, Tag.TAG_COMPOUND)) {
+            return dataMap.getCompound(NBTConstants.MODULES);
+        }
+        return null;
+    }
+
+    boolean isValid(ItemStack stack) {
+        return modulesTag == getModulesTag(stack);
+    }
+
+    List<Module<?>> modules() {
+        return modules;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    <MODULE extends ICustomModule<MODULE>> Module<MODULE> get(ModuleData<MODULE> type) {
+        return (Module<MODULE>) modulesByType.get(type);
+    }
+
+    boolean has(ModuleData<?> type) {
+        return modulesByType.containsKey(type);
+    }
+}
@@ -1,5 +1,7 @@
 package mekanism.common.content.gear;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import it.unimi.dsi.fastutil.objects.Reference2IntMap;
 import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
@@ -12,10 +14,10 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import mekanism.api.MekanismAPI;
 import mekanism.api.MekanismIMC;
-import mekanism.api.NBTConstants;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.gear.ICustomModule;
 import mekanism.api.gear.IHUDElement;
@@ -30,7 +32,6 @@ import mekanism.client.render.armor.MekaSuitArmor;
 import mekanism.common.Mekanism;
 import mekanism.common.item.ItemModule;
 import mekanism.common.registries.MekanismItems;
-import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import mekanism.common.util.text.TextUtils;
 import net.minecraft.nbt.CompoundTag;
@@ -54,9 +55,23 @@ public class ModuleHelper implements IModuleHelper {
         return (ModuleHelper) INSTANCE;
     }
 
+    /**
+     * Enough for every module container equipped by a large number of players, while keeping the stacks the cache holds onto bounded.
+     */
+    private static final int MAX_CACHED_CONTAINERS = 1_024;
+
     private final Map<Item, Set<ModuleData<?>>> supportedModules = new Reference2ObjectArrayMap<>(5);
     private final Map<ModuleData<?>, Set<Item>> supportedContainers = new IdentityHashMap<>();
     private final Map<ModuleData<?>, Set<ModuleData<?>>> conflictingModules = new IdentityHashMap<>();
+    /**
+     * Decoded modules per stack. Item stacks don't override equals, so the stacks are compared by identity. As modules hold a reference to their container, weak keys
+     * would never be cleared, so instead we bound the cache and expire entries that haven't been accessed in a while so that stacks that are no longer in use can be
+     * collected.
+     */
+    private final Cache<ItemStack, ModuleContainer> moduleContainers = CacheBuilder.newBuilder()
+          .maximumSize(MAX_CACHED_CONTAINERS)
+          .expireAfterAccess(1, TimeUnit.MINUTES)
+          .build();
 
     public void processIMC(InterModProcessEvent event) {
         Map<ModuleData<?>, ImmutableSet.Builder<Item>> supportedContainersBuilderMap = new IdentityHashMap<>();
@@ -141,54 +156,84 @@ public class ModuleHelper implements IModuleHelper {
         return m != null && m.isEnabled();
     }
 
+    /**
+     * Gets the decoded modules for the given stack, reusing the cached instance if the modules on the stack haven't changed since it was decoded.
+     */
+    private ModuleContainer getModuleContainer(ItemStack container) {
+        if (container.getItem() instanceof IModuleContainerItem) {
+            ModuleContainer moduleContainer = moduleContainers.getIfPresent(container);
+            if (moduleContainer == null || !moduleContainer.isValid(container)) {
+                moduleContainer = decodeModules(container);
+                moduleContainers.put(container, moduleContainer);
+            }
+            return moduleContainer;
+        }
+        return ModuleContainer.EMPTY;
+    }
+
+    private ModuleContainer decodeModules(ItemStack container) {
+        CompoundTag modulesTag = ModuleContainer.getModulesTag(container);
+        if (modulesTag == null || modulesTag.isEmpty()) {
+            return new ModuleContainer(modulesTag, Collections.emptyList());
+        }
+        List<Module<?>> modules = new ArrayList<>(modulesTag.size());
+        for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
+            Module<?> module = load(container, moduleType, modulesTag, null);
+            if (module != null) {
+                modules.add(module);
+            }
+        }
+        return new ModuleContainer(modulesTag, modules);
+    }
+
+    /**
+     * Invalidates the cached modules of the given stack. This must be called whenever a module is added to or removed from the modules compound in place.
+     */
+    public void invalidateModules(ItemStack container) {
+        moduleContainers.invalidate(container);
+    }
+
+    public boolean hasModule(ItemStack container, IModuleDataProvider<?> typeProvider) {
+        return getModuleContainer(container).has(typeProvider.getModuleData());
+    }
+
     @Nullable
     @Override
     public <MODULE extends ICustomModule<MODULE>> Module<MODULE> load(ItemStack container, IModuleDataProvider<MODULE> typeProvider) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            return load(container, typeProvider.getModuleData(), modulesTag, null);
-        }
-        return null;
+        return getModuleContainer(container).get(typeProvider.getModuleData());
     }
 
     @Override
     public List<Module<?>> loadAll(ItemStack container) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            List<Module<?>> modules = new ArrayList<>();
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
-                Module<?> module = load(container, moduleType, modulesTag, null);
-                if (module != null) {
-                    modules.add(module);
-                }
-            }
-            return modules;
-        }
-        return Collections.emptyList();
+        return getModuleContainer(container).modules();
     }
 
     @Override
     public <MODULE extends ICustomModule<?>> List<Module<? extends MODULE>> loadAll(ItemStack container, Class<MODULE> moduleClass) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            List<Module<? extends MODULE>> modules = new ArrayList<>();
-            CompoundTag modulesTag = ItemDataUtils.getCompound(container, NBTConstants.MODULES);
-            for (ModuleData<?> moduleType : loadAllTypes(modulesTag)) {
-                Module<?> module = load(container, moduleType, modulesTag, moduleClass);
-                if (module != null) {
-                    modules.add((Module<? extends MODULE>) module);
-                }
+        List<Module<?>> allModules = loadAll(container);
+        if (allModules.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Module<? extends MODULE>> modules = new ArrayList<>();
+        for (Module<?> module : allModules) {
+            if (moduleClass.isInstance(module.getCustomInstance())) {
+                modules.add((Module<? extends MODULE>) module);
             }
-            return modules;
         }
-        return Collections.emptyList();
+        return modules;
     }
 
     @Override
     public List<ModuleData<?>> loadAllTypes(ItemStack container) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            return loadAllTypes(ItemDataUtils.getCompound(container, NBTConstants.MODULES));
+        List<Module<?>> modules = loadAll(container);
+        if (modules.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<ModuleData<?>> moduleTypes = new ArrayList<>(modules.size());
+        for (Module<?> module : modules) {
+            moduleTypes.add(module.getData());
         }
-        return Collections.emptyList();
+        return moduleTypes;
     }
 
     private List<ModuleData<?>> loadAllTypes(CompoundTag modulesTag) {
@@ -203,24 +248,13 @@ public class ModuleHelper implements IModuleHelper {
     }
 
     public Reference2IntMap<ModuleData<?>> loadAllCounts(ItemStack container) {
-        if (container.getItem() instanceof IModuleContainerItem) {
-            return loadAllCounts(ItemDataUtils.getCompound(container, NBTConstants.MODULES));
+        List<Module<?>> modules = loadAll(container);
+        if (modules.isEmpty()) {
+            return Reference2IntMaps.emptyMap();
         }
-        return Reference2IntMaps.emptyMap();
-    }
-
-    private Reference2IntMap<ModuleData<?>> loadAllCounts(CompoundTag modulesTag) {
-        Reference2IntMap<ModuleData<?>> counts = new Reference2IntOpenHashMap<>();
-        for (String name : modulesTag.getAllKeys()) {
-            ModuleData<?> moduleType = getModuleTypeFromName(name);
-            if (moduleType != null) {
-                int count = 1;
-                CompoundTag moduleData = modulesTag.getCompound(name);
-                if (moduleData.contains(NBTConstants.AMOUNT, Tag.TAG_INT)) {
-                    count = moduleData.getInt(NBTConstants.AMOUNT);
-                }
-                counts.put(moduleType, count);
-            }
+        Reference2IntMap<ModuleData<?>> counts = new Reference2IntOpenHashMap<>(modules.size());
+        for (Module<?> module : modules) {
+            counts.put(module.getData(), module.getInstalledCount());
         }
         return counts;
     }
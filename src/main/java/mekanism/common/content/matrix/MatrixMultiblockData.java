@@ -111,27 +111,27 @@ public class MatrixMultiblockData extends MultiblockData {
         return isRemote() ? clientMaxEnergy : energyContainer.getMaxEnergy();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public FloatingLong getTransferCap() {
         return isRemote() ? clientMaxTransfer : energyContainer.getMaxTransfer();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public FloatingLong getLastInput() {
         return isRemote() ? clientLastInput : energyContainer.getLastInput();
     }
 
-    @ComputerMethod
+    @ComputerMethod(cacheable = true)
     public FloatingLong getLastOutput() {
         return isRemote() ? clientLastOutput : energyContainer.getLastOutput();
     }
 
-    @ComputerMethod(nameOverride = "getInstalledCells")
+    @ComputerMethod(nameOverride = "getInstalledCells", cacheable = true)
     public int getCellCount() {
         return isRemote() ? clientCells : energyContainer.getCells();
     }
 
-    @ComputerMethod(nameOverride = "getInstalledProviders")
+    @ComputerMethod(nameOverride = "getInstalledProviders", cacheable = true)
     public int getProviderCount() {
         return isRemote() ? clientProviders : energyContainer.getProviders();
     }
@@ -5,7 +5,6 @@ import mekanism.api.NBTConstants;
 import mekanism.common.base.TagCache;
 import mekanism.common.content.filter.FilterType;
 import mekanism.common.content.filter.ITagFilter;
-import mekanism.common.lib.WildcardMatcher;
 import mekanism.common.network.BasePacketHandler;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -29,7 +28,7 @@ public class MinerTagFilter extends MinerFilter<MinerTagFilter> implements ITagF
 
     @Override
     public boolean canFilter(BlockState state) {
-        return state.getTags().anyMatch(tag -> WildcardMatcher.matches(tagName, tag));
+        return TagCache.getBlocksInTag(tagName).contains(state.getBlock());
     }
 
     @Override
@@ -12,6 +12,7 @@ import mekanism.api.chemical.ChemicalType;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.chemical.gas.GasStack;
+import mekanism.api.chemical.gas.IGasHandler;
 import mekanism.api.chemical.gas.IGasTank;
 import mekanism.api.chemical.infuse.IInfusionTank;
 import mekanism.api.chemical.merged.BoxedChemical;
@@ -32,6 +33,7 @@ import mekanism.common.capabilities.chemical.dynamic.ISlurryTracker;
 import mekanism.common.capabilities.chemical.variable.VariableCapacityChemicalTankBuilder;
 import mekanism.common.content.network.distribution.BoxedChemicalTransmitterSaveTarget;
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
+import mekanism.common.content.network.distribution.GasHandlerTarget;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
 import mekanism.common.util.ChemicalUtil;
@@ -245,9 +247,20 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     }
 
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
-        ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
+        return emit(acceptorCache.getAcceptorValues(), stack);
+    }
+
+    /**
+     * Specialized version of {@link #tickEmit(ChemicalStack)} for when the network contains gas, as that is what most networks carry.
+     */
+    private long tickEmitGas(@NotNull GasStack stack) {
+        return emitGas(acceptorCache.getAcceptorValues(), stack);
+    }
+
+    static <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long emit(Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues,
+          @NotNull STACK stack) {
         ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
+        ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
         for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
             for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
                 lazyAcceptor.ifPresent(acceptor -> {
@@ -261,6 +274,23 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
     }
 
+    static long emitGas(Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues, @NotNull GasStack stack) {
+        GasHandlerTarget target = new GasHandlerTarget(stack, acceptorValues.size() * 2);
+        for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
+            for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
+                //Note: We use orElse rather than ifPresent or resolve so that we don't have to capture a lambda or create an Optional per acceptor
+                BoxedChemicalHandler acceptor = lazyAcceptor.orElse(null);
+                if (acceptor != null) {
+                    IGasHandler handler = acceptor.getGasHandler();
+                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                        target.addHandler(handler);
+                    }
+                }
+            }
+        }
+        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
@@ -271,6 +301,10 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         Current current = chemicalTank.getCurrent();
         if (current == Current.EMPTY) {
             prevTransferAmount = 0;
+        } else if (current == Current.GAS) {
+            IGasTank tank = chemicalTank.getGasTank();
+            prevTransferAmount = tickEmitGas(tank.getStack());
+            MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         } else {
             IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
             prevTransferAmount = tickEmit(tank.getStack());
@@ -1,9 +1,11 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -31,11 +33,25 @@ import org.jetbrains.annotations.Nullable;
 
 public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNetwork, FluidStack, MechanicalPipe> implements IMekanismFluidHandler {
 
+    /**
+     * Maximum number of ticks to wait before checking again whether an acceptor that was full can accept fluid.
+     */
+    private static final int MAX_BACKOFF_TICKS = 20;
+
     private final List<IExtendedFluidTank> fluidTanks;
     public final VariableCapacityFluidTank fluidTank;
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
+    /**
+     * Acceptors that were unable to accept any of the fluid the last time we checked them. Keyed by the lazy optional so that if the acceptor's capability is refreshed
+     * we check the new one right away.
+     */
+    private final Map<LazyOptional<IFluidHandler>, FullAcceptor> fullAcceptors = new Reference2ObjectOpenHashMap<>();
+    @NotNull
+    private FluidStack lastEmittedFluid = FluidStack.EMPTY;
+    private int emitTicks;
+    private int checkedAcceptors;
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
@@ -150,17 +166,54 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
+        if (!fluidToSend.isFluidEqual(lastEmittedFluid)) {
+            //Acceptors that were full of one fluid may still be able to accept a different one
+            fullAcceptors.clear();
+            lastEmittedFluid = new FluidStack(fluidToSend, 1);
+        }
+        emitTicks++;
+        checkedAcceptors = 0;
+        int seenFull = 0;
         Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
         FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
         for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
             for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(acceptor);
+                FullAcceptor fullAcceptor = fullAcceptors.get(lazyAcceptor);
+                if (fullAcceptor != null) {
+                    seenFull++;
+                    fullAcceptor.lastSeen = emitTicks;
+                    if (fullAcceptor.retryTick > emitTicks) {
+                        //Acceptor was full recently, wait a bit longer before checking it again
+                        continue;
                     }
-                });
+                }
+                Optional<IFluidHandler> acceptor = lazyAcceptor.resolve();
+                if (acceptor.isPresent()) {
+                    checkedAcceptors++;
+                    if (FluidUtils.canFill(acceptor.get(), fluidToSend)) {
+                        target.addHandler(acceptor.get());
+                        if (fullAcceptor != null) {
+                            fullAcceptors.remove(lazyAcceptor);
+                            seenFull--;
+                        }
+                    } else {
+                        if (fullAcceptor == null) {
+                            fullAcceptor = new FullAcceptor();
+                            fullAcceptor.lastSeen = emitTicks;
+                            fullAcceptors.put(lazyAcceptor, fullAcceptor);
+                            seenFull++;
+                        }
+                        //Double how long we wait each time the acceptor is still full
+                        fullAcceptor.retryTick = emitTicks + fullAcceptor.backoff;
+                        fullAcceptor.backoff = Math.min(2 * fullAcceptor.backoff, MAX_BACKOFF_TICKS);
+                    }
+                }
             }
         }
+        if (fullAcceptors.size() > seenFull) {
+            //Some of the acceptors are no longer connected or had their capability refreshed, stop tracking them
+            fullAcceptors.values().removeIf(fullAcceptor -> fullAcceptor.lastSeen != emitTicks);
+        }
         return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
     }
 
@@ -173,6 +226,9 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         }
         if (fluidTank.isEmpty()) {
             prevTransferAmount = 0;
+            checkedAcceptors = 0;
+            //The acceptors may have been drained while we had nothing to send them
+            fullAcceptors.clear();
         } else {
             prevTransferAmount = tickEmit(fluidTank.getFluid());
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
@@ -195,6 +251,14 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         return prevTransferAmount;
     }
 
+    /**
+     * @return How many acceptors were checked for whether they can accept fluid the last time the network emitted, excluding any that were skipped because they were
+     * recently full.
+     */
+    public int getCheckedAcceptors() {
+        return checkedAcceptors;
+    }
+
     @Override
     public String toString() {
         return "[FluidNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
@@ -266,4 +330,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             fluidType = type;
         }
     }
+
+    private static class FullAcceptor {
+
+        private int backoff = 1;
+        private int retryTick;
+        private int lastSeen;
+    }
 }
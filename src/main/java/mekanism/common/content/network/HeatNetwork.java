@@ -1,23 +1,65 @@
 package mekanism.common.content.network;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
-import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.value.CachedValue.IConfigValueInvalidationListener;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.DynamicNetwork;
+import mekanism.common.tier.ConductorTier;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
+    /**
+     * Incremented whenever the config values the solvers copy from the conductors change, so that every network knows to rebuild its solver.
+     *
+     * @implNote Volatile as configs may be reloaded from the config watcher's thread.
+     */
+    private static volatile int solverConfigVersion;
+
+    static {
+        IConfigValueInvalidationListener invalidateSolvers = () -> solverConfigVersion++;
+        for (ConductorTier tier : EnumUtils.CONDUCTOR_TIERS) {
+            tier.addConfigInvalidationListener(invalidateSolvers);
+        }
+    }
+
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    @Nullable
+    private HeatNetworkSolver solver;
+    private int solverVersion;
+    private ThermodynamicConductor[] conductors = new ThermodynamicConductor[0];
+    /**
+     * The connections each conductor had when the solver was built.
+     */
+    private byte[] connections = new byte[0];
+    /**
+     * Packed node and side indices of any connections that are not to other conductors in the solver.
+     */
+    private int[] externalConnections = new int[0];
+    /**
+     * Whether no heat got transferred the last time the network updated, and nothing has transferred heat into the network since.
+     */
+    private boolean asleep;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -47,22 +89,155 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     @Override
     public void onUpdate() {
         super.onUpdate();
-        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : transmitters) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
+        if (solver == null || solverVersion != solverConfigVersion || connectionsChanged()) {
+            buildSolver();
+        } else if (asleep) {
+            return;
+        }
+        if (conductors.length == 0) {
+            return;
         }
-        //After we updated the heat values of all the transmitters, we need to update the temperatures
+        for (int node = 0; node < conductors.length; node++) {
+            solver.setTemperature(node, conductors[node].buffer.getTemperature());
+        }
+        solver.step();
+        double newSumTemp = 0;
+        double newHeatTransferred = solver.getAdjacentTransfer();
+        boolean quiescent = true;
+        //Transfer heat to anything we are connected to that isn't part of the solver
+        for (int connection : externalConnections) {
+            int node = connection / HeatNetworkSolver.SIDES;
+            Direction side = EnumUtils.DIRECTIONS[connection % HeatNetworkSolver.SIDES];
+            ThermodynamicConductor conductor = conductors[node];
+            IHeatHandler sink = conductor.getAdjacent(side);
+            if (sink != null) {
+                double invConduction = sink.getTotalInverseConduction() + conductor.getTotalInverseConductionCoefficient(side);
+                double tempToTransfer = (solver.getTemperature(node) - solver.getAmbientTemperature(node, side.ordinal())) / invConduction;
+                double heatToTransfer = tempToTransfer * solver.getHeatCapacity(node);
+                solver.addHeat(node, -heatToTransfer);
+                //Note: Our sinks in mek are "lazy" but they will update the next tick if needed
+                sink.handleHeat(heatToTransfer);
+                newHeatTransferred = conductor.incrementAdjacentTransfer(newHeatTransferred, tempToTransfer, side);
+                if (Math.abs(heatToTransfer) > HeatAPI.EPSILON) {
+                    quiescent = false;
+                }
+            }
+        }
+        //After we calculated the heat transfers of all the transmitters, we need to update the temperatures
         // we do this after instead of when iterating initially so that if heat is transferred from one
         // conductor to one we already updated then we want it to have the proper total temperature
-        for (ThermodynamicConductor transmitter : transmitters) {
-            transmitter.updateHeatCapacitors(null);
-            newSumTemp += transmitter.getTotalTemperature();
+        for (int node = 0; node < conductors.length; node++) {
+            ThermodynamicConductor conductor = conductors[node];
+            double heat = conductor.buffer.getHeat();
+            conductor.buffer.handleHeat(solver.getHeatDelta(node));
+            conductor.updateHeatCapacitors(null);
+            if (quiescent && conductor.buffer.getHeat() != heat) {
+                quiescent = false;
+            }
+            newSumTemp += conductor.getTotalTemperature();
         }
-        heatLost = newHeatLost;
+        heatLost = solver.getEnvironmentTransfer();
         heatTransferred = newHeatTransferred;
-        meanTemp = newSumTemp / transmittersSize();
+        meanTemp = newSumTemp / conductors.length;
+        //If nothing changed, then nothing will change next tick either until heat is transferred into the network, so we can sleep until then
+        asleep = quiescent;
+    }
+
+    /**
+     * Wakes the network up so that it transfers heat again the next time it updates.
+     */
+    public void wake() {
+        asleep = false;
+    }
+
+    private void invalidateSolver() {
+        solver = null;
+        asleep = false;
+    }
+
+    private boolean connectionsChanged() {
+        for (int node = 0; node < conductors.length; node++) {
+            if (conductors[node].getAllCurrentConnections() != connections[node]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void buildSolver() {
+        asleep = false;
+        solverVersion = solverConfigVersion;
+        conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        connections = new byte[conductors.length];
+        solver = new HeatNetworkSolver(conductors.length);
+        Long2IntMap nodes = new Long2IntOpenHashMap(conductors.length);
+        nodes.defaultReturnValue(-1);
+        for (int node = 0; node < conductors.length; node++) {
+            nodes.put(conductors[node].getTilePos().asLong(), node);
+        }
+        IntList external = new IntArrayList();
+        for (int node = 0; node < conductors.length; node++) {
+            ThermodynamicConductor conductor = conductors[node];
+            byte currentConnections = conductor.getAllCurrentConnections();
+            connections[node] = currentConnections;
+            solver.setNode(node, conductor.buffer.getHeatCapacity(), conductor.buffer.getInverseConduction(), conductor.buffer.getInverseInsulation());
+            BlockPos pos = conductor.getTilePos();
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                solver.setAmbientTemperature(node, side.ordinal(), conductor.getAmbientTemperature(side));
+                if (Transmitter.connectionMapContainsSide(currentConnections, side)) {
+                    int neighbor = nodes.get(pos.relative(side).asLong());
+                    if (neighbor != -1 && exposesHeat(conductors[neighbor], side.getOpposite())) {
+                        solver.link(node, side.ordinal(), neighbor);
+                    } else {
+                        external.add(node * HeatNetworkSolver.SIDES + side.ordinal());
+                    }
+                }
+            }
+        }
+        externalConnections = external.toIntArray();
+    }
+
+    /**
+     * Checks if the given conductor exposes its heat capacitor on the given side, matching the checks done by the conductor's capability.
+     */
+    private static boolean exposesHeat(ThermodynamicConductor conductor, Direction side) {
+        return conductor.getConnectionTypeRaw(side) != ConnectionType.NONE && !conductor.isRedstoneActivated();
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(ThermodynamicConductor transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        invalidateSolver();
+        return super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    protected void removeInvalid(@Nullable ThermodynamicConductor triggerTransmitter) {
+        super.removeInvalid(triggerTransmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        invalidateSolver();
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        invalidateSolver();
     }
 
     @Override
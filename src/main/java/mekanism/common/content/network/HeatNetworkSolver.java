@@ -0,0 +1,139 @@
+package mekanism.common.content.network;
+
+import java.util.Arrays;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.heat.HeatAPI;
+
+/**
+ * Structure of arrays representation of the conductors in a {@link HeatNetwork}, that allows stepping the heat transfers between all the conductors of the network in
+ * a single loop without having to look up any capabilities. The math matches {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()}.
+ *
+ * @implNote Heat transfers to anything that isn't a node in the solver (for example acceptors) are not handled by the solver, and should instead be added via
+ * {@link #addHeat(int, double)} after {@link #step()}.
+ */
+@NothingNullByDefault
+public class HeatNetworkSolver {
+
+    public static final int SIDES = 6;
+    private static final int NO_NEIGHBOR = -1;
+
+    private final int size;
+    private final double[] heatCapacity;
+    private final double[] inverseConduction;
+    private final double[] environmentInverseConduction;
+    private final double[] ambientTemperature;
+    private final int[] neighbors;
+    private final double[] temperature;
+    private final double[] heatDelta;
+    private double adjacentTransfer;
+    private double environmentTransfer;
+
+    public HeatNetworkSolver(int size) {
+        this.size = size;
+        heatCapacity = new double[size];
+        inverseConduction = new double[size];
+        environmentInverseConduction = new double[size];
+        temperature = new double[size];
+        heatDelta = new double[size];
+        ambientTemperature = new double[size * SIDES];
+        Arrays.fill(ambientTemperature, HeatAPI.AMBIENT_TEMP);
+        neighbors = new int[size * SIDES];
+        Arrays.fill(neighbors, NO_NEIGHBOR);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void setNode(int node, double heatCapacity, double inverseConduction, double inverseInsulation) {
+        this.heatCapacity[node] = heatCapacity;
+        this.inverseConduction[node] = inverseConduction;
+        this.environmentInverseConduction[node] = HeatAPI.AIR_INVERSE_COEFFICIENT + inverseInsulation + inverseConduction;
+    }
+
+    public void setAmbientTemperature(int node, int side, double temperature) {
+        ambientTemperature[node * SIDES + side] = temperature;
+    }
+
+    /**
+     * Marks the given node as transferring heat to the neighbor on the given side. Heat only gets transferred from the node to the neighbor, for heat to transfer both
+     * ways the neighbor must also be linked to the node.
+     */
+    public void link(int node, int side, int neighbor) {
+        neighbors[node * SIDES + side] = neighbor;
+    }
+
+    public void setTemperature(int node, double temperature) {
+        this.temperature[node] = temperature;
+    }
+
+    public double getTemperature(int node) {
+        return temperature[node];
+    }
+
+    public double getHeatCapacity(int node) {
+        return heatCapacity[node];
+    }
+
+    public double getAmbientTemperature(int node, int side) {
+        return ambientTemperature[node * SIDES + side];
+    }
+
+    /**
+     * @return The amount of heat the given node gained (or lost if negative) during the last step.
+     */
+    public double getHeatDelta(int node) {
+        return heatDelta[node];
+    }
+
+    public void addHeat(int node, double heat) {
+        heatDelta[node] += heat;
+    }
+
+    public double getAdjacentTransfer() {
+        return adjacentTransfer;
+    }
+
+    public double getEnvironmentTransfer() {
+        return environmentTransfer;
+    }
+
+    /**
+     * Calculates how much heat each node gains or loses based on the current temperatures of the nodes.
+     */
+    public void step() {
+        Arrays.fill(heatDelta, 0);
+        double adjacentTransfer = 0;
+        double environmentTransfer = 0;
+        for (int node = 0; node < size; node++) {
+            double temp = temperature[node];
+            double capacity = heatCapacity[node];
+            double conduction = inverseConduction[node];
+            double environmentConduction = environmentInverseConduction[node];
+            double delta = 0;
+            for (int side = 0, index = node * SIDES; side < SIDES; side++, index++) {
+                double tempDifference = temp - ambientTemperature[index];
+                int neighbor = neighbors[index];
+                if (neighbor != NO_NEIGHBOR) {
+                    double tempToTransfer = tempDifference / (inverseConduction[neighbor] + conduction);
+                    double heatToTransfer = tempToTransfer * capacity;
+                    delta -= heatToTransfer;
+                    heatDelta[neighbor] += heatToTransfer;
+                    if (tempToTransfer <= 0) {
+                        //Heat transferred to other conductors only counts towards the adjacent transfer when it isn't hotter than the ambient temperature
+                        adjacentTransfer += tempToTransfer;
+                    }
+                }
+                double tempToEnvironment = tempDifference / environmentConduction;
+                delta -= tempToEnvironment * capacity;
+                if (tempToEnvironment > 0) {
+                    //Only count it towards environmental loss if it is hotter than the ambient temperature
+                    environmentTransfer += tempToEnvironment;
+                }
+            }
+            heatDelta[node] += delta;
+        }
+        this.adjacentTransfer = adjacentTransfer;
+        this.environmentTransfer = environmentTransfer;
+    }
+}
@@ -12,7 +12,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import mekanism.api.Coord4D;
 import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.Mekanism;
@@ -21,6 +20,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
@@ -51,7 +51,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
     }
 
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         List<AcceptorData> toReturn = new ArrayList<>();
         for (Map.Entry<BlockPos, Map<Direction, LazyOptional<IItemHandler>>> entry : acceptorCache.getAcceptorEntrySet()) {
             BlockPos pos = entry.getKey();
@@ -61,7 +61,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                     continue;
                 }
                 Map<TransitResponse, AcceptorData> dataMap = new HashMap<>();
-                Coord4D position = new Coord4D(pos, getWorld());
+                long position = pos.asLong();
                 for (Map.Entry<Direction, LazyOptional<IItemHandler>> acceptorEntry : entry.getValue().entrySet()) {
                     Optional<IItemHandler> handler = acceptorEntry.getValue().resolve();
                     if (handler.isPresent()) {
@@ -77,7 +77,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                                 }
                             }
                         }
-                        TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler.get(), request, additionalFlowingStacks);
+                        TransitResponse response = TransporterManager.getPredictedInsert(getWorld().dimension(), position, side, handler.get(), request, additionalFlowingStacks);
                         if (!response.isEmpty()) {
                             Direction opposite = side.getOpposite();
                             //If the response isn't empty, check if we already have acceptor data for
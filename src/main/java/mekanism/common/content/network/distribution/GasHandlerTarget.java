@@ -0,0 +1,29 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.chemical.gas.GasStack;
+import mekanism.api.chemical.gas.IGasHandler;
+import mekanism.common.lib.distribution.SplitInfo;
+import mekanism.common.lib.distribution.Target;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gas specific version of {@link ChemicalHandlerTarget} that copies the stack directly instead of having to look up what type of chemical it is first.
+ */
+public class GasHandlerTarget extends Target<IGasHandler, Long, @NotNull GasStack> {
+
+    public GasHandlerTarget(@NotNull GasStack type, int expectedSize) {
+        super(expectedSize);
+        this.extra = type;
+    }
+
+    @Override
+    protected void acceptAmount(IGasHandler handler, SplitInfo<Long> splitInfo, Long amount) {
+        splitInfo.send(amount - handler.insertChemical(new GasStack(extra, amount), Action.EXECUTE).getAmount());
+    }
+
+    @Override
+    protected Long simulate(IGasHandler handler, @NotNull GasStack stack) {
+        return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
+    }
+}
@@ -43,7 +43,16 @@ public class ThermodynamicConductor extends Transmitter<IHeatHandler, HeatNetwor
     public ThermodynamicConductor(IBlockProvider blockProvider, TileEntityTransmitter tile) {
         super(tile, TransmissionType.HEAT);
         this.tier = Attribute.getTier(blockProvider, ConductorTier.class);
-        buffer = VariableHeatCapacitor.create(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation, ambientTemperature, this);
+        buffer = new VariableHeatCapacitor(tier.getHeatCapacity(), tier::getInverseConduction, tier::getInverseConductionInsulation, ambientTemperature, this) {
+            @Override
+            public void handleHeat(double transfer) {
+                super.handleHeat(transfer);
+                if (hasTransmitterNetwork()) {
+                    //Heat is being added to the network, make sure it is awake so that the heat gets transferred
+                    getTransmitterNetwork().wake();
+                }
+            }
+        };
         capacitors = Collections.singletonList(buffer);
     }
 
@@ -31,6 +31,9 @@ public class QIODriveData {
         key.updateMetadata(this);
     }
 
+    /**
+     * @implNote Does not update the metadata of the drive stack or mark the holder as changed, the frequency does that once per tick for any drives that were changed.
+     */
     public long add(HashedItem type, long amount, Action action) {
         long stored = getStored(type);
         // fail if we've reached item count capacity or adding this item would make us exceed type capacity
@@ -41,12 +44,13 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
-            key.updateMetadata(this);
-            key.dataUpdate();
         }
         return amount - toAdd;
     }
 
+    /**
+     * @implNote Does not update the metadata of the drive stack or mark the holder as changed, the frequency does that once per tick for any drives that were changed.
+     */
     public long remove(HashedItem type, long amount, Action action) {
         long stored = getStored(type);
         long removed = Math.min(amount, stored);
@@ -58,8 +62,6 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
-            key.updateMetadata(this);
-            key.dataUpdate();
         }
         return removed;
     }
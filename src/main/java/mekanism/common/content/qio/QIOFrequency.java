@@ -17,7 +17,12 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import mekanism.api.Action;
 import mekanism.api.NBTConstants;
@@ -40,18 +45,30 @@ import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.common.util.Lazy;
+import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.Nullable;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
     private static final Random rand = new Random();
+    /**
+     * How many ticks the frequency keeps publishing snapshots for after one was last requested, so that frequencies nothing reads snapshots of don't have to copy their
+     * contents every time they change.
+     */
+    private static final int SNAPSHOT_IDLE_TICKS = 10 * SharedConstants.TICKS_PER_SECOND;
+    /**
+     * How many seconds a thread that requests a snapshot while none is being kept up to date waits for the main thread to capture one.
+     */
+    private static final int SNAPSHOT_CAPTURE_TIMEOUT = 5;
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
     private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
@@ -69,13 +86,24 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUID> updatedItems = new HashSet<>();
+    //Note: We keep track of the types rather than their UUIDs so that each type only has to be looked up once per tick no matter how often it changed
+    private final Set<HashedItem> updatedItems = new HashSet<>();
+    // drives that have been changed this tick, and that need their metadata updated and their holder marked as changed
+    private final Set<QIODriveData> changedDrives = new HashSet<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** If we have item changes that aren't in the latest snapshot. */
+    private boolean snapshotOutdated = true;
+    private int snapshotIdleTicks = SNAPSHOT_IDLE_TICKS;
+    private long snapshotVersion;
+    private volatile boolean snapshotRequested;
+    /** If the latest snapshot is being kept up to date each tick. */
+    private volatile boolean snapshotLive;
+    private volatile QIOFrequencySnapshot snapshot = QIOFrequencySnapshot.EMPTY;
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -119,22 +147,23 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty() || amount <= 0) {
             return 0;
         }
-        HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        HashedItem rawType = HashedItem.raw(stack);
+        QIOItemTypeData data = itemDataMap.get(rawType);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
         // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        if (totalCount == totalCountCapacity || (data == null && itemDataMap.size() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
+        if (data == null) {
+            if (action.execute()) {
+                //Only copy the stack if we are actually adding a new type, as if the type is already stored we can just use the existing data
+                HashedItem type = HashedItem.create(stack);
+                data = createTypeDataForAbsent(type);
+                itemDataMap.put(type, data);
+            } else {
                 // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
+                data = new QIOItemTypeData(rawType);
             }
         }
         return amount - data.add(amount, action);
@@ -148,21 +177,18 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             // a place to put the new items, and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
             return stack;
         }
-        HashedItem type = HashedItem.create(stack);
-        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, t -> {
+        QIOItemTypeData data = itemDataMap.get(HashedItem.raw(stack));
+        if (data == null) {
             if (itemDataMap.size() == totalTypeCapacity) {
-                //Don't add any ghost item types if there is no room for new ones. We do this inside of a computeIfAbsent
-                // so that we don't have to check if the map contains it twice
-                return null;
+                //Don't add any ghost item types if there is no room for new ones
+                return stack;
             }
             // at this point we're guaranteed at least part of the input stack will be inserted
-            return createTypeDataForAbsent(t);
-        });
-        if (data == null) {
-            //Failed to insert
-            return stack;
+            HashedItem type = HashedItem.create(stack);
+            data = createTypeDataForAbsent(type);
+            itemDataMap.put(type, data);
         }
-        return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+        return data.itemType.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
     }
 
     private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
@@ -308,7 +334,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
+        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys, w -> TagCache.getItemTagsMatching(w)::contains)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : tagWildcardCache.get(wildcard)) {
                 for (HashedItem item : tagLookupMap.getValues(match)) {
@@ -324,7 +350,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
+        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet, WildcardMatcher::compile)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
             for (String match : modIDWildcardCache.get(wildcard)) {
                 for (HashedItem item : modIDLookupMap.get(match)) {
@@ -339,13 +365,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return Object2LongMaps.emptyMap();
     }
 
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
+    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier,
+          Function<String, Predicate<String>> matcherLookup) {
         if (failedWildcards.contains(wildcard)) {
             //If we already know this wildcard has no matching things, fail fast
             return false;
         }
         //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
+        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get(), matcherLookup.apply(wildcard))) {
             // If we don't actually have any matches, mark that the wildcard failed, and return false
             failedWildcards.add(wildcard);
             return false;
@@ -356,10 +383,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     /**
      * @return {@code true} if any wildcards were added.
      */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
+    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries, Predicate<String> matcher) {
         boolean added = false;
         for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
+            if (matcher.test(entry)) {
                 added |= wildcardCache.put(wildcard, entry);
             }
         }
@@ -437,14 +464,23 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public boolean tick() {
         boolean superDirty = super.tick();
+        if (!changedDrives.isEmpty()) {
+            //Update the metadata and mark the holders of any drives that changed, once no matter how many operations were performed on them this tick
+            for (QIODriveData data : changedDrives) {
+                QIODriveKey key = data.getKey();
+                key.updateMetadata(data);
+                key.dataUpdate();
+            }
+            changedDrives.clear();
+        }
         if (!updatedItems.isEmpty() || needsUpdate) {
             //Only calculate the packet and the update map if there are actually players viewing this frequency,
             // otherwise we can just skip looking up UUIDs and counts
             Lazy<PacketQIOItemViewerGuiSync> lazyPacket = Lazy.of(() -> {
                 Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                updatedItems.forEach(uuid -> {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
+                updatedItems.forEach(type -> {
+                    UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(type);
+                    if (uuid != null) {//The uuid should never be null as we create a UUID if there isn't one before adding but validate it
                         QIOItemTypeData data = itemDataMap.get(type);
                         map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
                     }
@@ -479,10 +515,71 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             tagLookupMap.clear();
             tagWildcardCache.clear();
             itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType));
+            snapshotOutdated = true;
+        }
+        if (snapshotRequested) {
+            snapshotRequested = false;
+            snapshotIdleTicks = 0;
+        }
+        if (snapshotIdleTicks < SNAPSHOT_IDLE_TICKS) {
+            snapshotIdleTicks++;
+            //Publish at most one snapshot per tick, regardless of how many changes were made this tick
+            publishSnapshot();
+        } else if (snapshotLive) {
+            //Nothing has requested a snapshot in a while, stop copying our contents each time they change until one is requested again
+            snapshotLive = false;
         }
         return superDirty;
     }
 
+    /**
+     * Gets a snapshot of the items stored in this frequency. Unlike the other lookup methods this may be called from any thread, as the snapshot is immutable.
+     *
+     * @implNote While snapshots are being requested, a new snapshot is published at the end of any tick the contents changed in, so the returned snapshot may be up to
+     * a tick behind. If no snapshot has been requested recently, one is captured before returning. When called from a thread other than the main thread this means
+     * waiting for the main thread to capture it.
+     */
+    public QIOFrequencySnapshot getSnapshot() {
+        snapshotRequested = true;
+        if (snapshotLive || isRemoved()) {
+            return snapshot;
+        }
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server == null) {
+            return snapshot;
+        } else if (server.isSameThread()) {
+            return captureSnapshot();
+        }
+        try {
+            return server.submit(this::captureSnapshot).get(SNAPSHOT_CAPTURE_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            Mekanism.logger.warn("Failed to capture a snapshot of QIO frequency '{}', using the last captured snapshot.", getName(), e);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Captures a snapshot if the contents changed since the last one, and starts keeping it up to date.
+     *
+     * @apiNote Must only be called from the main thread.
+     */
+    private QIOFrequencySnapshot captureSnapshot() {
+        snapshotIdleTicks = 0;
+        snapshotLive = !isRemoved();
+        return publishSnapshot();
+    }
+
+    private QIOFrequencySnapshot publishSnapshot() {
+        if (snapshotOutdated && !isRemoved()) {
+            snapshot = QIOFrequencySnapshot.create(++snapshotVersion, itemDataMap, tagLookupMap, modIDLookupMap, fuzzyItemLookupMap, totalCount, totalCountCapacity,
+                  totalTypeCapacity);
+            snapshotOutdated = false;
+        }
+        return snapshot;
+    }
+
     @Override
     public boolean onDeactivate(BlockEntity tile) {
         boolean changedData = super.onDeactivate(tile);
@@ -515,6 +612,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
+        snapshotLive = false;
+        snapshot = QIOFrequencySnapshot.EMPTY;
         playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
@@ -605,6 +704,10 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
+        if (changedDrives.remove(data)) {
+            //The drive changed since we last ticked, make sure the holder knows about it as we are updating the metadata here instead
+            key.dataUpdate();
+        }
         // save the item list onto the physical drive
         key.updateMetadata(data);
         key.save(data);
@@ -619,17 +722,18 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
         isDirty = true;
+        snapshotOutdated = true;
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
-                updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+                updatedItems.add(changedItem);
             }
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
-            updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            updatedItems.add(changedItem);
         }
     }
 
@@ -687,6 +791,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             long rejects = data.add(itemType, toAdd, action);
             if (action.execute() && rejects < toAdd) {
                 containingDrives.add(data.getKey());
+                changedDrives.add(data);
             }
             return rejects;
         }
@@ -695,10 +800,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             long removed = 0;
             for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
                 QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
+                long removedFromDrive = data.remove(itemType, amount - removed, action);
+                removed += removedFromDrive;
+                if (action.execute()) {
+                    if (removedFromDrive > 0) {
+                        changedDrives.add(data);
+                    }
+                    // remove this drive from containingDrives if it doesn't have this item anymore
+                    if (data.getStored(itemType) == 0) {
+                        iter.remove();
+                    }
                 }
                 // break early if we found enough items
                 if (removed == amount) {
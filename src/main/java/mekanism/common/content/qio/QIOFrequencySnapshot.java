@@ -0,0 +1,171 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
+import mekanism.common.lib.collection.BiMultimap;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable copy of the items stored in a {@link QIOFrequency} and the indexes used to look them up. The frequency publishes a new snapshot at most once per tick, so
+ * unlike the frequency itself a snapshot can safely be queried from threads other than the main thread.
+ *
+ * @implNote Wildcard lookups are cached per snapshot, as the tags and modids that are stored can't change until the next snapshot is published.
+ */
+public class QIOFrequencySnapshot {
+
+    public static final QIOFrequencySnapshot EMPTY = new QIOFrequencySnapshot(0, Object2LongMaps.emptyMap(), Collections.emptyMap(), Collections.emptyMap(),
+          Collections.emptyMap(), 0, 0, 0);
+
+    private final long version;
+    private final Object2LongMap<HashedItem> counts;
+    private final Map<String, Set<HashedItem>> tagLookupMap;
+    private final Map<String, Set<HashedItem>> modIDLookupMap;
+    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap;
+    private final Map<String, Set<String>> tagWildcardCache = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> modIDWildcardCache = new ConcurrentHashMap<>();
+    private final long totalCount;
+    private final long totalCountCapacity;
+    private final int totalTypeCapacity;
+
+    private QIOFrequencySnapshot(long version, Object2LongMap<HashedItem> counts, Map<String, Set<HashedItem>> tagLookupMap, Map<String, Set<HashedItem>> modIDLookupMap,
+          Map<Item, Set<HashedItem>> fuzzyItemLookupMap, long totalCount, long totalCountCapacity, int totalTypeCapacity) {
+        this.version = version;
+        this.counts = counts;
+        this.tagLookupMap = tagLookupMap;
+        this.modIDLookupMap = modIDLookupMap;
+        this.fuzzyItemLookupMap = fuzzyItemLookupMap;
+        this.totalCount = totalCount;
+        this.totalCountCapacity = totalCountCapacity;
+        this.totalTypeCapacity = totalTypeCapacity;
+    }
+
+    /**
+     * @apiNote Must only be called from the main thread, as it reads the mutable structures of the frequency.
+     */
+    static QIOFrequencySnapshot create(long version, Map<HashedItem, QIOItemTypeData> itemDataMap, BiMultimap<String, HashedItem> tagLookupMap,
+          Map<String, Set<HashedItem>> modIDLookupMap, Map<Item, Set<HashedItem>> fuzzyItemLookupMap, long totalCount, long totalCountCapacity, int totalTypeCapacity) {
+        Object2LongMap<HashedItem> counts = new Object2LongOpenHashMap<>(itemDataMap.size());
+        itemDataMap.forEach((type, data) -> counts.put(type, data.getCount()));
+        Map<String, Set<HashedItem>> tags = new HashMap<>();
+        for (String tag : tagLookupMap.getAllKeys()) {
+            tags.put(tag, Set.copyOf(tagLookupMap.getValues(tag)));
+        }
+        return new QIOFrequencySnapshot(version, Object2LongMaps.unmodifiable(counts), Collections.unmodifiableMap(tags),
+              copyLookup(modIDLookupMap, new HashMap<>()), copyLookup(fuzzyItemLookupMap, new IdentityHashMap<>()), totalCount, totalCountCapacity, totalTypeCapacity);
+    }
+
+    private static <KEY> Map<KEY, Set<HashedItem>> copyLookup(Map<KEY, Set<HashedItem>> lookup, Map<KEY, Set<HashedItem>> copy) {
+        lookup.forEach((key, items) -> copy.put(key, Set.copyOf(items)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return How many snapshots the frequency had published when this snapshot was taken, or zero for the empty snapshot. A newer snapshot always has a higher version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public long getStored(ItemStack type) {
+        return type.isEmpty() ? 0 : getStored(HashedItem.raw(type));
+    }
+
+    public long getStored(HashedItem itemType) {
+        return counts.getLong(itemType);
+    }
+
+    /**
+     * @return All the stored item types and their counts. The returned map should not be modified.
+     */
+    public Object2LongMap<HashedItem> getCounts() {
+        return counts;
+    }
+
+    public long getTotalItemCount() {
+        return totalCount;
+    }
+
+    public long getTotalItemCountCapacity() {
+        return totalCountCapacity;
+    }
+
+    public int getTotalItemTypes() {
+        return counts.size();
+    }
+
+    public int getTotalItemTypeCapacity() {
+        return totalTypeCapacity;
+    }
+
+    public Object2LongMap<HashedItem> getStacksByItem(Item item) {
+        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTag(String tag) {
+        return getStacksWithCounts(tagLookupMap.get(tag));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModID(String modID) {
+        return getStacksWithCounts(modIDLookupMap.get(modID));
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
+        return getStacksByWildcard(tagWildcardCache, tagLookupMap, wildcard);
+    }
+
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        return getStacksByWildcard(modIDWildcardCache, modIDLookupMap, wildcard);
+    }
+
+    private Object2LongMap<HashedItem> getStacksByWildcard(Map<String, Set<String>> wildcardCache, Map<String, Set<HashedItem>> lookup, String wildcard) {
+        Set<String> matches = wildcardCache.computeIfAbsent(wildcard, w -> {
+            CompiledWildcard matcher = WildcardMatcher.compile(w);
+            Set<String> matching = new HashSet<>();
+            for (String entry : lookup.keySet()) {
+                if (matcher.test(entry)) {
+                    matching.add(entry);
+                }
+            }
+            return matching.isEmpty() ? Collections.emptySet() : Set.copyOf(matching);
+        });
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (String match : matches) {
+            //Note: An item may have multiple tags that match the wildcard, but it will have the same count for each of them
+            addCounts(ret, lookup.get(match));
+        }
+        return ret;
+    }
+
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
+        if (items == null || items.isEmpty()) {
+            return Object2LongMaps.emptyMap();
+        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(items.size());
+        addCounts(ret, items);
+        return ret;
+    }
+
+    private void addCounts(Object2LongMap<HashedItem> ret, Collection<HashedItem> items) {
+        for (HashedItem item : items) {
+            ret.put(item, getStored(item));
+        }
+    }
+}
@@ -183,7 +183,16 @@ public class SearchQueryParser {
         MOD_ID('@', (key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
         TOOLTIP('$', (key, stack) -> stack.getTooltipLines(null, TooltipFlag.Default.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT))
               .anyMatch(tooltip -> tooltip.contains(key.toLowerCase(Locale.ROOT)))),
-        TAG('#', (key, stack) -> TagCache.getItemTags(stack).stream().anyMatch(itemTag -> itemTag.toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))));
+        //Note: Tag names are resource locations, so they are always lowercase already
+        TAG('#', (key, stack) -> {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            for (String itemTag : TagCache.getItemTags(stack)) {
+                if (itemTag.contains(lowerKey)) {
+                    return true;
+                }
+            }
+            return false;
+        });
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
 
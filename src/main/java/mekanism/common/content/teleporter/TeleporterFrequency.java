@@ -6,6 +6,7 @@ import java.util.UUID;
 import mekanism.api.Coord4D;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
@@ -19,6 +20,11 @@ import org.jetbrains.annotations.Nullable;
 public class TeleporterFrequency extends Frequency implements IColorableFrequency {
 
     private final Set<Coord4D> activeCoords = new ObjectOpenHashSet<>();
+    /**
+     * Table of the closest other active teleporter for each active teleporter. Lazily rebuilt after a teleporter joins or leaves the frequency.
+     */
+    @Nullable
+    private DimensionalPositionMap<Coord4D> closestCoords;
     private EnumColor color = EnumColor.PURPLE;
 
     /**
@@ -59,14 +65,18 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
     @Override
     public boolean update(BlockEntity tile) {
         boolean changedData = super.update(tile);
-        activeCoords.add(getCoord(tile));
+        if (activeCoords.add(getCoord(tile))) {
+            closestCoords = null;
+        }
         return changedData;
     }
 
     @Override
     public boolean onDeactivate(BlockEntity tile) {
         boolean changedData = super.onDeactivate(tile);
-        activeCoords.remove(getCoord(tile));
+        if (activeCoords.remove(getCoord(tile))) {
+            closestCoords = null;
+        }
         return changedData;
     }
 
@@ -78,7 +88,26 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
         return new Coord4D(tile);
     }
 
+    @Nullable
     public Coord4D getClosestCoords(Coord4D coord) {
+        if (!activeCoords.contains(coord)) {
+            //Not one of our active teleporters, so it won't be in the table
+            return findClosestCoords(coord);
+        }
+        if (closestCoords == null) {
+            closestCoords = new DimensionalPositionMap<>();
+            for (Coord4D activeCoord : activeCoords) {
+                Coord4D closest = findClosestCoords(activeCoord);
+                if (closest != null) {
+                    closestCoords.put(activeCoord, closest);
+                }
+            }
+        }
+        return closestCoords.get(coord);
+    }
+
+    @Nullable
+    private Coord4D findClosestCoords(Coord4D coord) {
         Coord4D closest = null;
         for (Coord4D iterCoord : activeCoords) {
             if (iterCoord.equals(coord)) {
@@ -92,7 +121,7 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
             if (coord.dimension != closest.dimension && coord.dimension == iterCoord.dimension) {
                 closest = iterCoord;
             } else if (coord.dimension != closest.dimension || coord.dimension == iterCoord.dimension) {
-                if (coord.distanceTo(closest) > coord.distanceTo(iterCoord)) {
+                if (coord.distanceToSquared(closest) > coord.distanceToSquared(iterCoord)) {
                     closest = iterCoord;
                 }
             }
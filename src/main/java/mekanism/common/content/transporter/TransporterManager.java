@@ -1,40 +1,67 @@
 package mekanism.common.content.transporter;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Set;
-import mekanism.api.Coord4D;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.ItemData;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
     private TransporterManager() {
     }
 
-    private static final Map<Coord4D, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    private static final DimensionalPositionMap<Set<TransporterStack>> flowingStacks = new DimensionalPositionMap<>();
+    /**
+     * Ledger per destination and side of what the destination's inventory is expected to look like after all the stacks in {@link #flowingStacks} have arrived. This
+     * allows predicting inserts without having to re-simulate every in-flight stack each time a stack gets routed to the destination.
+     */
+    private static final DimensionalPositionMap<Map<Direction, Reservations>> reservations = new DimensionalPositionMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        reservations.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(new Coord4D(stack.getDest(), world), k -> new ObjectOpenHashSet<>()).add(stack);
+        ResourceKey<Level> dimension = world.dimension();
+        long dest = stack.getDest().asLong();
+        flowingStacks.computeIfAbsent(dimension, dest, k -> new ObjectOpenHashSet<>()).add(stack);
+        Map<Direction, Reservations> sideReservations = reservations.get(dimension, dest);
+        if (sideReservations != null) {
+            //Reserve room for the new stack in the existing ledgers rather than invalidating them
+            for (Reservations ledger : sideReservations.values()) {
+                ledger.reserve(stack);
+            }
+        }
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(new Coord4D(stack.getDest(), world)).remove(stack);
+            ResourceKey<Level> dimension = world.dimension();
+            long dest = stack.getDest().asLong();
+            Set<TransporterStack> stacks = flowingStacks.get(dimension, dest);
+            if (stacks != null && stacks.remove(stack)) {
+                if (stacks.isEmpty()) {
+                    flowingStacks.remove(dimension, dest);
+                }
+                //Note: We can't undo the simulation of a single stack, so the ledger will be rebuilt the next time it is needed. In general this happens
+                // when the stack arrives, in which case the contents of the destination changed anyway
+                reservations.remove(dimension, dest);
+            }
         }
     }
 
@@ -175,7 +202,8 @@ public class TransporterManager {
      * Gets the {@link TransitResponse} of what items we expect to be able to get used/inserted into the item handler at a given position, taking into account any already
      * "in-flight" items that are being transferred to the handler.
      *
-     * @param position                Position of the target
+     * @param dimension               Dimension of the target
+     * @param position                {@link net.minecraft.core.BlockPos#asLong() Packed} position of the target
      * @param side                    Side of the target we are connecting to
      * @param handler                 The item handler the target has
      * @param request                 Transit request
@@ -183,15 +211,25 @@ public class TransporterManager {
      *
      * @return {@link TransitResponse} of expected items to use
      */
-    public static TransitResponse getPredictedInsert(Coord4D position, Direction side, IItemHandler handler, TransitRequest request,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
+    public static TransitResponse getPredictedInsert(ResourceKey<Level> dimension, long position, Direction side, IItemHandler handler, TransitRequest request,
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         //Before we see if this item can fit in the destination, we must first check the stacks that are
-        // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
-        // track of the initial size of the inventory and then simulate each in-flight addition. If any
-        // in-flight stack can't be inserted, then we can fail fast.
+        // en-route. The state of the inventory after simulating the stacks that are en-route is kept in
+        // a ledger that is updated as stacks are added, so we only have to simulate any additional stacks.
+        // If any in-flight stack can't be inserted, then we can fail fast.
+        InventoryInfo inventoryInfo;
+        Set<TransporterStack> stacks = flowingStacks.get(dimension, position);
+        if (stacks != null) {
+            Reservations ledger = getReservations(dimension, position, stacks, side, handler);
+            if (ledger.full) {
+                return request.getEmptyResponse();
+            }
+            inventoryInfo = new InventoryInfo(ledger.inventoryInfo);
+        } else {
+            inventoryInfo = new InventoryInfo(handler);
+        }
         //Note: that stackSizes for inventoryInfo is updated each time
-        if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+        if (!predictFlowing(side, handler, inventoryInfo, additionalFlowingStacks.get(dimension, position))) {
             return request.getEmptyResponse();
         }
 
@@ -200,40 +238,57 @@ public class TransporterManager {
         return getPredictedInsert(inventoryInfo, handler, request);
     }
 
-    private static boolean predictFlowing(Coord4D position, Direction side, IItemHandler handler, InventoryInfo inventoryInfo,
-          Map<Coord4D, Set<TransporterStack>> flowingStacks) {
-        Set<TransporterStack> transporterStacks = flowingStacks.get(position);
+    private static Reservations getReservations(ResourceKey<Level> dimension, long position, Set<TransporterStack> stacks, Direction side, IItemHandler handler) {
+        Map<Direction, Reservations> sideReservations = reservations.computeIfAbsent(dimension, position, k -> new EnumMap<>(Direction.class));
+        Reservations ledger = sideReservations.get(side);
+        if (ledger == null || !ledger.isValid(handler)) {
+            //If we don't have a ledger yet, or the contents of the destination changed since the ledger was built, (re)build it from the real contents
+            ledger = new Reservations(side, handler);
+            for (TransporterStack stack : stacks) {
+                ledger.reserve(stack);
+            }
+            sideReservations.put(side, ledger);
+        }
+        return ledger;
+    }
+
+    private static boolean predictFlowing(Direction side, IItemHandler handler, InventoryInfo inventoryInfo, @Nullable Set<TransporterStack> transporterStacks) {
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType() != Path.NONE) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyway so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack could be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return false;
-                    }
+                if (!predictFlowing(side, handler, inventoryInfo, stack)) {
+                    return false;
                 }
             }
         }
         return true;
     }
 
+    /**
+     * @return {@code false} if the in-flight stack couldn't be inserted, and there is no room for anyone else.
+     */
+    private static boolean predictFlowing(Direction side, IItemHandler handler, InventoryInfo inventoryInfo, @Nullable TransporterStack stack) {
+        if (stack != null && stack.getPathType() != Path.NONE) {
+            //We start by simulating inserting the stack into the handler, regardless of if we
+            // are interacting with the same side of the target as the stack's path is taking.
+            // This is so that in cases where the item handler is shared (chests) or some of
+            // the slots of the item handler may be shared (our machines with multiple sides
+            // set to the same side config are "different" because of the side proxies) then
+            // we want to make sure we try to insert the in-flight stacks anyway so that if
+            // the slot is the same we fill it.
+            int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+            if (numLeftOver > 0) {
+                //If none of the stack could be inserted, check if we are attempting to insert it
+                // into the same side as the side we are predicting that we can insert into.
+                //If we are not, then assume that the destination does not contain the slot that the in-flight
+                // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                // the destination, and instead continue checking and then simulate/check our TransitRequest
+                // Otherwise, we failed to successfully insert this in-flight item; there's no room for anyone else
+                return numLeftOver == stack.itemStack.getCount() && side != stack.getSideOfDest();
+            }
+        }
+        return true;
+    }
+
     /**
      * Gets the {@link TransitResponse} of what items we expect to be able to get used/inserted into the item handler with the current inventory info.
      *
@@ -288,6 +343,18 @@ public class TransporterManager {
         private final int[] slotLimits;
         private final int slots;
 
+        /**
+         * Creates a copy of the given info that can be simulated against without affecting the original.
+         */
+        public InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = other.inventory.clone();
+            stackSizes = other.stackSizes.clone();
+            actualStackSizes = other.actualStackSizes;
+            //Note: Slot limits are shared as they don't depend on the simulated contents
+            slotLimits = other.slotLimits;
+        }
+
         public InventoryInfo(IItemHandler handler) {
             slots = handler.getSlots();
             inventory = new ItemStack[slots];
@@ -311,4 +378,57 @@ public class TransporterManager {
             return limit;
         }
     }
+
+    /**
+     * Ledger of the room reserved in a destination's inventory by the stacks that are currently en-route to it. The ledger is built from a snapshot of the real contents
+     * of the destination, and is only rebuilt when those contents change or a stack stops being en-route to the destination.
+     */
+    private static class Reservations {
+
+        private final InventoryInfo inventoryInfo;
+        private final IItemHandler handler;
+        private final Direction side;
+        /**
+         * The stacks that were in each slot of the handler when the ledger was built.
+         */
+        private final ItemStack[] contents;
+        /**
+         * {@code true} if some in-flight stack can't be inserted, so there is no room for anyone else.
+         */
+        private boolean full;
+
+        private Reservations(Direction side, IItemHandler handler) {
+            this.side = side;
+            this.handler = handler;
+            this.inventoryInfo = new InventoryInfo(handler);
+            //Note: We copy the array rather than the stacks, as the sizes are tracked by the actual stack sizes of the inventory info
+            this.contents = inventoryInfo.inventory.clone();
+        }
+
+        private void reserve(TransporterStack stack) {
+            if (!full && !predictFlowing(side, handler, inventoryInfo, stack)) {
+                full = true;
+            }
+        }
+
+        /**
+         * Reconciles the ledger against the current contents of the handler.
+         *
+         * @return {@code true} if the handler is the same one the ledger was built for and its contents have not changed since.
+         */
+        private boolean isValid(IItemHandler handler) {
+            if (this.handler != handler || handler.getSlots() != inventoryInfo.slots) {
+                return false;
+            }
+            for (int slot = 0; slot < inventoryInfo.slots; slot++) {
+                ItemStack stack = handler.getStackInSlot(slot);
+                if (stack.getCount() != inventoryInfo.actualStackSizes[slot]) {
+                    return false;
+                } else if (stack != contents[slot] && !stack.isEmpty() && !ItemStack.isSameItemSameTags(stack, contents[slot])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
\ No newline at end of file
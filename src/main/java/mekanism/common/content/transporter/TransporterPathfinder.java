@@ -11,7 +11,6 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import mekanism.api.Coord4D;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
@@ -21,6 +20,7 @@ import mekanism.common.content.transporter.PathfinderCache.PathData;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder.DestChecker;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.ConnectionType;
@@ -42,7 +42,7 @@ public final class TransporterPathfinder {
     }
 
     private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
             return Collections.emptyList();
@@ -102,12 +102,12 @@ public final class TransporterPathfinder {
 
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
-        return getNewBasePath(start, stack, request, min, Collections.emptyMap());
+        return getNewBasePath(start, stack, request, min, DimensionalPositionMap.empty());
     }
 
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         List<Destination> paths = getPaths(start, stack, request, min, additionalFlowingStacks);
         if (paths.isEmpty()) {
             return null;
@@ -118,7 +118,7 @@ public final class TransporterPathfinder {
     @Nullable
     public static Destination getNewRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, TileEntityLogisticalSorter outputter,
           int min) {
-        List<Destination> destinations = getPaths(start, stack, request, min, Collections.emptyMap());
+        List<Destination> destinations = getPaths(start, stack, request, min, DimensionalPositionMap.empty());
         int destinationCount = destinations.size();
         if (destinationCount == 0) {
             return null;
@@ -1,17 +1,15 @@
 package mekanism.common.content.transporter;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import mekanism.api.Coord4D;
 import mekanism.api.NBTConstants;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.EnumColor;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.tile.TileEntityLogisticalSorter;
@@ -175,16 +173,16 @@ public class TransporterStack {
     }
 
     public TransitResponse recalculatePath(TransitRequest request, LogisticalTransporterBase transporter, int min, boolean updateFlowing) {
-        return recalculatePath(request, transporter, min, updateFlowing, Collections.emptyMap());
+        return recalculatePath(request, transporter, min, updateFlowing, DimensionalPositionMap.empty());
     }
 
     public TransitResponse recalculatePath(TransitRequest request, LogisticalTransporterBase transporter, int min,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         return recalculatePath(request, transporter, min, false, additionalFlowingStacks);
     }
 
     private TransitResponse recalculatePath(TransitRequest request, LogisticalTransporterBase transporter, int min, boolean updateFlowing,
-          Map<Coord4D, Set<TransporterStack>> additionalFlowingStacks) {
+          DimensionalPositionMap<Set<TransporterStack>> additionalFlowingStacks) {
         Destination newPath = TransporterPathfinder.getNewBasePath(transporter, this, request, min, additionalFlowingStacks);
         if (newPath == null) {
             return request.getEmptyResponse();
@@ -1,10 +1,14 @@
 package mekanism.common.entity;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -57,6 +61,8 @@ import mekanism.common.inventory.slot.OutputInventorySlot;
 import mekanism.common.inventory.warning.WarningTracker.WarningType;
 import mekanism.common.item.ItemConfigurator;
 import mekanism.common.item.ItemRobit;
+import mekanism.common.lib.ItemEntityIndex;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.ISingleRecipeLookupHandler.ItemRecipeLookupHandler;
@@ -123,7 +129,6 @@ import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.ITeleporter;
 import net.minecraftforge.common.util.LazyOptional;
-import net.minecraftforge.items.ItemHandlerHelper;
 import net.minecraftforge.network.NetworkHooks;
 import net.minecraftforge.server.ServerLifecycleHooks;
 import org.jetbrains.annotations.NotNull;
@@ -332,33 +337,49 @@ public class EntityRobit extends PathfinderMob implements IRobit, IMekanismInven
     }
 
     private void collectItems() {
-        List<ItemEntity> items = level().getEntitiesOfClass(ItemEntity.class, getBoundingBox().inflate(1.5, 1.5, 1.5));
+        List<ItemEntity> items = ItemEntityIndex.getItems(this, getBoundingBox().inflate(1.5, 1.5, 1.5), this::isItemValid);
         if (!items.isEmpty()) {
+            //Look up which slots each type of item can stack into once, rather than checking every slot for every item
+            Map<HashedItem, IntList> partialSlots = new HashMap<>();
+            IntList emptySlots = new IntArrayList();
+            for (int i = 0, slots = inventoryContainerSlots.size(); i < slots; i++) {
+                IInventorySlot slot = inventoryContainerSlots.get(i);
+                if (slot.isEmpty()) {
+                    emptySlots.add(i);
+                } else if (slot.getCount() < slot.getLimit(slot.getStack())) {
+                    partialSlots.computeIfAbsent(HashedItem.create(slot.getStack()), type -> new IntArrayList()).add(i);
+                }
+            }
             for (ItemEntity item : items) {
-                if (isItemValid(item)) {
-                    for (IInventorySlot slot : inventoryContainerSlots) {
-                        if (slot.isEmpty()) {
-                            slot.setStack(item.getItem());
-                            take(item, item.getItem().getCount());
-                            item.discard();
-                            playSound(SoundEvents.ITEM_PICKUP, 1, ((random.nextFloat() - random.nextFloat()) * 0.7F + 1.0F) * 2.0F);
-                            break;
-                        }
-                        ItemStack itemStack = slot.getStack();
-                        int maxSize = slot.getLimit(itemStack);
-                        if (ItemHandlerHelper.canItemStacksStack(itemStack, item.getItem()) && itemStack.getCount() < maxSize) {
-                            int needed = maxSize - itemStack.getCount();
-                            int toAdd = Math.min(needed, item.getItem().getCount());
-                            MekanismUtils.logMismatchedStackSize(slot.growStack(toAdd, Action.EXECUTE), toAdd);
-                            item.getItem().shrink(toAdd);
-                            take(item, toAdd);
-                            if (item.getItem().isEmpty()) {
-                                item.discard();
-                            }
-                            playSound(SoundEvents.ITEM_PICKUP, 1, ((random.nextFloat() - random.nextFloat()) * 0.7F + 1.0F) * 2.0F);
-                            break;
-                        }
+                ItemStack stack = item.getItem();
+                int startCount = stack.getCount();
+                IntList stackableSlots = partialSlots.get(HashedItem.raw(stack));
+                while (!stack.isEmpty() && stackableSlots != null && !stackableSlots.isEmpty()) {
+                    IInventorySlot slot = inventoryContainerSlots.get(stackableSlots.getInt(0));
+                    stack = slot.insertItem(stack, Action.EXECUTE, AutomationType.INTERNAL);
+                    if (!stack.isEmpty()) {
+                        //The slot is full
+                        stackableSlots.removeInt(0);
+                    }
+                }
+                while (!stack.isEmpty() && !emptySlots.isEmpty()) {
+                    int index = emptySlots.removeInt(0);
+                    IInventorySlot slot = inventoryContainerSlots.get(index);
+                    stack = slot.insertItem(stack, Action.EXECUTE, AutomationType.INTERNAL);
+                    if (stack.isEmpty() && slot.getCount() < slot.getLimit(slot.getStack())) {
+                        //The slot still has room, so let other items of the same type stack into it
+                        partialSlots.computeIfAbsent(HashedItem.create(slot.getStack()), type -> new IntArrayList()).add(index);
+                    }
+                }
+                int inserted = startCount - stack.getCount();
+                if (inserted > 0) {
+                    take(item, inserted);
+                    if (stack.isEmpty()) {
+                        item.discard();
+                    } else {
+                        item.setItem(stack);
                     }
+                    playSound(SoundEvents.ITEM_PICKUP, 1, ((random.nextFloat() - random.nextFloat()) * 0.7F + 1.0F) * 2.0F);
                 }
             }
         }
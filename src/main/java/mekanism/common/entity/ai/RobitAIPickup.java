@@ -3,7 +3,7 @@ package mekanism.common.entity.ai;
 import java.util.List;
 import java.util.function.Predicate;
 import mekanism.common.entity.EntityRobit;
-import net.minecraft.world.entity.Entity;
+import mekanism.common.lib.ItemEntityIndex;
 import net.minecraft.world.entity.ai.navigation.PathNavigation;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.phys.AABB;
@@ -13,7 +13,7 @@ public class RobitAIPickup extends RobitAIBase {
     private static final int SEARCH_RADIUS = 10;
     private static final int SEARCH_RADIUS_SQ = SEARCH_RADIUS * SEARCH_RADIUS;
 
-    private final Predicate<Entity> itemPredicate = entity -> !entity.isSpectator() && entity instanceof ItemEntity item && theRobit.isItemValid(item);
+    private final Predicate<ItemEntity> itemPredicate = item -> theRobit.isItemValid(item);
     private ItemEntity closest;
 
     public RobitAIPickup(EntityRobit entityRobit, float speed) {
@@ -34,7 +34,7 @@ public class RobitAIPickup extends RobitAIBase {
         //Cached for slight performance
         double closestDistance = -1;
         //TODO: Look at and potentially mimic the way piglins search for items to pickup once their AI has mappings
-        List<ItemEntity> items = theRobit.level().getEntitiesOfClass(ItemEntity.class,
+        List<ItemEntity> items = ItemEntityIndex.getItems(theRobit,
               new AABB(theRobit.getX() - SEARCH_RADIUS, theRobit.getY() - SEARCH_RADIUS, theRobit.getZ() - SEARCH_RADIUS,
                     theRobit.getX() + SEARCH_RADIUS, theRobit.getY() + SEARCH_RADIUS, theRobit.getZ() + SEARCH_RADIUS), itemPredicate);
         for (ItemEntity entity : items) {
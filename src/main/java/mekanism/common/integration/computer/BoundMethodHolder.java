@@ -28,6 +28,11 @@ public abstract class BoundMethodHolder {
           .returnExtra(String.class, MethodHelpData.class)
           .arguments(new String[]{"methodName"}, new Class[]{String.class})
           .build();
+    private static final MethodData<Lazy<ComputerTelemetry>> TELEMETRY_METHOD = MethodData.builder("getTelemetry", BoundMethodHolder::getTelemetry)
+          .returnType(Map.class)
+          .returnExtra(String.class, Object.class)
+          .methodDescription("Get the values of all the cacheable getters in a single call, keyed by method name. While a computer is attached the values are published once per tick, and are refreshed early if another method is called.")
+          .build();
 
 
     protected final ListMultimap<String, BoundMethodData<?>> methods = ArrayListMultimap.create();
@@ -37,10 +42,12 @@ public abstract class BoundMethodHolder {
     private final Set<ObjectIntPair<String>> methodsKnown = new HashSet<>();
 
     protected Lazy<String[]> methodNames = Lazy.of(() -> this.methods.keys().toArray(new String[0]));
+    protected final Lazy<ComputerTelemetry> telemetry = Lazy.of(() -> new ComputerTelemetry(this.methods.values(), createTelemetryHelper()));
 
     protected BoundMethodHolder() {
         register(HELP_METHOD, new WeakReference<>(this.methods), true);
         register(HELP_METHOD_WITH_NAME, new WeakReference<>(this.methods), true);
+        register(TELEMETRY_METHOD, new WeakReference<>(this.telemetry), true);
     }
 
     public <T> void register(MethodData<T> method, @Nullable WeakReference<T> subject, boolean isHelpMethod) {
@@ -69,6 +76,10 @@ public abstract class BoundMethodHolder {
             return method.threadSafe();
         }
 
+        public boolean cacheable() {
+            return method.cacheable();
+        }
+
         public String[] argumentNames() {
             return method.argumentNames();
         }
@@ -111,6 +122,45 @@ public abstract class BoundMethodHolder {
         }
     }
 
+    /**
+     * Creates a helper for the computer integration, that takes no arguments, for the {@link ComputerTelemetry telemetry} to call and convert the cacheable methods
+     * with.
+     */
+    protected abstract BaseComputerHelper createTelemetryHelper();
+
+    /**
+     * @return {@code true} if the given method is the bulk method that gets all the values of the {@link ComputerTelemetry telemetry}.
+     */
+    protected static boolean isBulkTelemetryMethod(BoundMethodData<?> method) {
+        return method.method() == TELEMETRY_METHOD;
+    }
+
+    /**
+     * @return {@code true} if the given method is answered by the {@link ComputerTelemetry telemetry cache}.
+     */
+    protected boolean isTelemetryMethod(BoundMethodData<?> method) {
+        return telemetry.get().provides(method);
+    }
+
+    /**
+     * Lets the {@link ComputerTelemetry telemetry cache} know that the given method was called, so that any cached values are invalidated if the method may have changed
+     * them.
+     *
+     * @implNote Thread-safe methods are ignored, as they don't touch any of the state that is only safe to read from the main thread.
+     */
+    protected void onMethodCalled(BoundMethodData<?> method) {
+        if (!method.isHelpMethod() && !method.threadSafe() && !isTelemetryMethod(method)) {
+            telemetry.get().invalidate();
+        }
+    }
+
+    private static Object getTelemetry(@Nullable Lazy<ComputerTelemetry> telemetry, BaseComputerHelper helper) {
+        if (telemetry == null) {
+            return helper.voidResult();
+        }
+        return telemetry.get().getAll(helper);
+    }
+
     public static Object generateHelp(ListMultimap<String, BoundMethodData<?>> methods, BaseComputerHelper helper) {
         if (methods == null) {
             return helper.voidResult();
@@ -0,0 +1,166 @@
+package mekanism.common.integration.computer;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.integration.computer.BoundMethodHolder.BoundMethodData;
+
+/**
+ * Keeps track of the values computers have subscribed to on a {@link BoundMethodHolder}, so that instead of having to poll the value the computer gets sent an event
+ * when it crosses a threshold or changes by a given amount. Subscriptions are evaluated by the tile the methods are bound to each time it ticks on the server.
+ *
+ * @implNote Only read-only methods that take no arguments and return a number or boolean can be subscribed to. Booleans are treated as {@code 0} and {@code 1}.
+ */
+public class ComputerSubscriptions {
+
+    /**
+     * Maximum number of subscriptions a single holder may have, to keep computers from being able to make a tile arbitrarily expensive to tick.
+     */
+    private static final int MAX_SUBSCRIPTIONS = 64;
+
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private final BaseComputerHelper helper;
+    private int nextId = 1;
+
+    /**
+     * @param helper Helper for the computer integration, that takes no arguments, to call the subscribed methods with.
+     */
+    public ComputerSubscriptions(BaseComputerHelper helper) {
+        this.helper = helper;
+    }
+
+    /**
+     * Subscribes to the given method.
+     *
+     * @param method   Method to subscribe to.
+     * @param mode     When to send an event.
+     * @param value    The threshold or minimum change, depending on the mode.
+     * @param listener Listener to send the events to.
+     *
+     * @return The id of the subscription.
+     *
+     * @apiNote Must only be called from the main thread.
+     */
+    public synchronized int subscribe(BoundMethodData<?> method, SubscriptionMode mode, double value, SubscriptionListener listener) throws ComputerException {
+        if (method.argumentNames().length != 0 || !isNumeric(method.returnType())) {
+            throw new ComputerException("Method '%s' can't be subscribed to as it either requires arguments or doesn't return a number or boolean.", method.name());
+        } else if (subscriptions.size() >= MAX_SUBSCRIPTIONS) {
+            throw new ComputerException("Too many subscriptions, at most %d are allowed.", MAX_SUBSCRIPTIONS);
+        } else if (mode == SubscriptionMode.CHANGE && value <= 0) {
+            throw new ComputerException("Minimum change must be greater than zero.");
+        }
+        Subscription subscription = new Subscription(nextId++, method, mode, value, listener);
+        //Start from the current value so that we only send events for things that happen after subscribing
+        subscription.lastValue = getValue(method);
+        subscriptions.add(subscription);
+        return subscription.id;
+    }
+
+    /**
+     * @return {@code true} if the listener had a subscription with the given id.
+     */
+    public synchronized boolean unsubscribe(int id, SubscriptionListener listener) {
+        return subscriptions.removeIf(subscription -> subscription.id == id && subscription.listener == listener);
+    }
+
+    /**
+     * Removes all subscriptions of the given listener, for example when the computer is detached.
+     */
+    public synchronized void unsubscribeAll(SubscriptionListener listener) {
+        subscriptions.removeIf(subscription -> subscription.listener == listener);
+    }
+
+    public synchronized boolean isEmpty() {
+        return subscriptions.isEmpty();
+    }
+
+    /**
+     * Evaluates all the subscriptions and sends events to any whose value crossed their threshold or changed by enough.
+     *
+     * @apiNote Must only be called from the main thread.
+     */
+    public synchronized void evaluate() {
+        for (Subscription subscription : subscriptions) {
+            double value;
+            try {
+                value = getValue(subscription.method);
+            } catch (ComputerException e) {
+                //The value isn't currently available, for example because the multiblock isn't formed, check again next tick
+                continue;
+            }
+            if (subscription.shouldNotify(value)) {
+                subscription.listener.onSubscriptionTriggered(subscription.id, subscription.method.name(), value);
+            }
+        }
+    }
+
+    private double getValue(BoundMethodData<?> method) throws ComputerException {
+        Object value = method.call(helper);
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        } else if (value instanceof Boolean bool) {
+            return bool ? 1 : 0;
+        }
+        throw new ComputerException("Method '%s' returned a non numeric value.", method.name());
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return type == int.class || type == long.class || type == double.class || type == float.class || type == short.class || type == byte.class ||
+               type == boolean.class || type == Boolean.class || Number.class.isAssignableFrom(type) || type == FloatingLong.class;
+    }
+
+    public enum SubscriptionMode {
+        /**
+         * Sends an event when the value goes from being at or below the threshold to being above it.
+         */
+        ABOVE,
+        /**
+         * Sends an event when the value goes from being at or above the threshold to being below it.
+         */
+        BELOW,
+        /**
+         * Sends an event when the value has changed by at least the given amount since the last event.
+         */
+        CHANGE
+    }
+
+    @FunctionalInterface
+    public interface SubscriptionListener {
+
+        /**
+         * Called on the main thread when a subscription is triggered.
+         */
+        void onSubscriptionTriggered(int id, String method, double value);
+    }
+
+    private static class Subscription {
+
+        private final int id;
+        private final BoundMethodData<?> method;
+        private final SubscriptionMode mode;
+        private final double value;
+        private final SubscriptionListener listener;
+        private double lastValue;
+
+        private Subscription(int id, BoundMethodData<?> method, SubscriptionMode mode, double value, SubscriptionListener listener) {
+            this.id = id;
+            this.method = method;
+            this.mode = mode;
+            this.value = value;
+            this.listener = listener;
+        }
+
+        private boolean shouldNotify(double current) {
+            boolean notify = switch (mode) {
+                case ABOVE -> lastValue <= value && current > value;
+                case BELOW -> lastValue >= value && current < value;
+                case CHANGE -> Math.abs(current - lastValue) >= value;
+            };
+            if (notify || mode != SubscriptionMode.CHANGE) {
+                //For changes, we keep comparing against the last value we sent an event for so that slow changes still add up
+                lastValue = current;
+            }
+            return notify;
+        }
+    }
+}
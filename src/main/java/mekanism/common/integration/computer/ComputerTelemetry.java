@@ -0,0 +1,210 @@
+package mekanism.common.integration.computer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.integration.computer.BoundMethodHolder.BoundMethodData;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.server.ServerLifecycleHooks;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Telemetry of the values of the {@link MethodData#cacheable() cacheable} methods bound to a {@link BoundMethodHolder}. While a computer is attached, the tile the methods
+ * are bound to publishes an immutable record of all the cacheable values each time it ticks on the server, and computers can then read those values from any thread
+ * without having to queue a main thread task.
+ *
+ * @implNote A published record is valid until the tile publishes the next one, or until any method that isn't cacheable is called, as we can't tell which of the other
+ * methods modify the state that the values were read from. Reads that happen while there is no valid record fall back to calling the method on the main thread.
+ */
+public class ComputerTelemetry {
+
+    private final Map<String, BoundMethodData<?>> sources;
+    private final BaseComputerHelper helper;
+    //Note: Incremented whenever something might have changed the values, this is atomic so that outdated records can be detected from any thread
+    private final AtomicInteger generation = new AtomicInteger();
+    @Nullable
+    private volatile TelemetryRecord published;
+    //Note: Guarded by this, so that attaching and detaching can't race with registering and unregistering from the tile
+    private int listeners;
+
+    /**
+     * @param helper Helper for the computer integration, that takes no arguments, to convert the values with. The values are converted when they are published, as the
+     *               generated handlers return values that have already been converted.
+     */
+    ComputerTelemetry(Collection<BoundMethodData<?>> methods, BaseComputerHelper helper) {
+        this.helper = helper;
+        Map<String, BoundMethodData<?>> sources = new HashMap<>();
+        for (BoundMethodData<?> method : methods) {
+            if (isCacheable(method)) {
+                sources.put(method.name(), method);
+            }
+        }
+        this.sources = Map.copyOf(sources);
+    }
+
+    private static boolean isCacheable(BoundMethodData<?> method) {
+        return method.cacheable() && !method.isHelpMethod() && !method.threadSafe() && method.argumentNames().length == 0;
+    }
+
+    /**
+     * @return {@code true} if the given method's value is published by this telemetry.
+     */
+    public boolean provides(BoundMethodData<?> method) {
+        return method.argumentNames().length == 0 && sources.containsKey(method.name());
+    }
+
+    /**
+     * Marks the published record as outdated. Should be called after any method that is not {@link #provides(BoundMethodData) provided} by this telemetry is called.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Called when a computer attaches to the holder of this telemetry, to start having the given tile publish records each tick. Safe to call from any thread.
+     *
+     * @return {@code false} if the tile doesn't support publishing telemetry.
+     */
+    public synchronized boolean attach(IComputerTile tile) {
+        if (sources.isEmpty() || (listeners == 0 && !tile.addComputerTelemetry(this))) {
+            return false;
+        }
+        listeners++;
+        return true;
+    }
+
+    /**
+     * Called when a computer that {@link #attach(IComputerTile) attached} detaches, once no computers are attached the tile stops publishing records. Safe to call from
+     * any thread.
+     */
+    public synchronized void detach(IComputerTile tile) {
+        if (listeners > 0 && --listeners == 0) {
+            tile.removeComputerTelemetry(this);
+            published = null;
+        }
+    }
+
+    /**
+     * Captures the values of all the cacheable methods and publishes them as a new record.
+     *
+     * @apiNote Must only be called from the main thread, by the tile the methods are bound to.
+     */
+    public void publish() {
+        int currentGeneration = generation.get();
+        Map<String, CachedValue> values = new HashMap<>();
+        for (BoundMethodData<?> source : sources.values()) {
+            values.put(source.name(), capture(source, helper));
+        }
+        published = new TelemetryRecord(getServerTick(), currentGeneration, Map.copyOf(values));
+    }
+
+    /**
+     * Gets the value of the given method from the published record if there is one that is still valid. Safe to call from any thread.
+     *
+     * @return The published value, or {@code null} if there is no valid record.
+     */
+    @Nullable
+    public CachedValue getCurrent(BoundMethodData<?> method) {
+        TelemetryRecord record = getValidRecord();
+        return record == null ? null : record.values.get(method.name());
+    }
+
+    /**
+     * Gets the values of all the cacheable methods from the published record if there is one that is still valid. Safe to call from any thread.
+     *
+     * @return The already converted values of all the cacheable methods that didn't error, keyed by method name, or {@code null} if there is no valid record.
+     */
+    @Nullable
+    public Map<String, Object> getAllCurrent() {
+        TelemetryRecord record = getValidRecord();
+        return record == null ? null : record.getValues();
+    }
+
+    /**
+     * Gets the values of all the cacheable methods, from the published record if it is still valid, and otherwise by calling them directly.
+     *
+     * @param helper Helper for the computer integration that converts the values.
+     *
+     * @return The already converted values of all the cacheable methods that didn't error, keyed by method name.
+     *
+     * @apiNote Must only be called from the main thread.
+     */
+    public Map<String, Object> getAll(BaseComputerHelper helper) {
+        Map<String, Object> current = getAllCurrent();
+        if (current != null) {
+            return current;
+        }
+        Map<String, Object> values = new HashMap<>();
+        for (BoundMethodData<?> source : sources.values()) {
+            CachedValue value = capture(source, helper);
+            if (value.error == null) {
+                values.put(source.name(), value.value);
+            }
+        }
+        return values;
+    }
+
+    @Nullable
+    private TelemetryRecord getValidRecord() {
+        TelemetryRecord record = published;
+        //Note: The tile may not have ticked yet this tick, so we also accept records from the previous tick
+        if (record != null && record.generation == generation.get() && getServerTick() - record.tick <= 1) {
+            return record;
+        }
+        return null;
+    }
+
+    private static CachedValue capture(BoundMethodData<?> method, BaseComputerHelper helper) {
+        try {
+            return new CachedValue(method.call(helper), null);
+        } catch (ComputerException e) {
+            //Store the error so that we can throw it when the method is called
+            return new CachedValue(null, e);
+        }
+    }
+
+    private static int getServerTick() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server == null ? -1 : server.getTickCount();
+    }
+
+    private record TelemetryRecord(int tick, int generation, Map<String, CachedValue> values) {
+
+        private Map<String, Object> getValues() {
+            Map<String, Object> converted = new HashMap<>();
+            values.forEach((name, value) -> {
+                if (value.error == null) {
+                    converted.put(name, value.value);
+                }
+            });
+            return converted;
+        }
+    }
+
+    public static class CachedValue {
+
+        @Nullable
+        private final Object value;
+        @Nullable
+        private final ComputerException error;
+
+        private CachedValue(@Nullable Object value, @Nullable ComputerException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * Gets the value the method returned when it was captured.
+         *
+         * @throws ComputerException If the method threw an exception when it was captured.
+         */
+        @Nullable
+        public Object get() throws ComputerException {
+            if (error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+}
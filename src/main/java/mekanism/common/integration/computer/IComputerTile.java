@@ -27,4 +27,29 @@ public interface IComputerTile {
     }
 
     String getComputerName();
+
+    /**
+     * Adds subscriptions that should be evaluated every time this tile ticks on the server. Once the subscriptions become empty the tile will stop evaluating them.
+     *
+     * @return {@code false} if this tile does not support evaluating subscriptions.
+     */
+    default boolean addComputerSubscriptions(ComputerSubscriptions subscriptions) {
+        return false;
+    }
+
+    /**
+     * Adds telemetry that should be {@link ComputerTelemetry#publish() published} every time this tile ticks on the server, until it is removed again. May be called
+     * from any thread.
+     *
+     * @return {@code false} if this tile does not support publishing telemetry.
+     */
+    default boolean addComputerTelemetry(ComputerTelemetry telemetry) {
+        return false;
+    }
+
+    /**
+     * Stops publishing telemetry that was added with {@link #addComputerTelemetry(ComputerTelemetry)}. May be called from any thread.
+     */
+    default void removeComputerTelemetry(ComputerTelemetry telemetry) {
+    }
 }
\ No newline at end of file
@@ -6,7 +6,7 @@ import org.jetbrains.annotations.Nullable;
 
 public record MethodData<T>(String name, MethodRestriction restriction, String[] requiredMods, boolean threadSafe, String[] argumentNames, Class<?>[] argClasses,
                             Class<?> returnType, Class<?>[] returnExtra, ComputerFunctionCaller<T> handler, @Nullable String methodDescription,
-                            boolean requiresPublicSecurity) {
+                            boolean requiresPublicSecurity, boolean cacheable) {
     public MethodData {
         if (argClasses.length != argumentNames.length) {
             throw new IllegalStateException("Argument arrays should be the same length");
@@ -46,6 +46,7 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
         private final ComputerFunctionCaller<T> handler;
         private @Nullable String methodDescription = null;
         private boolean requiresPublicSecurity = false;
+        private boolean cacheable = false;
 
         private Builder(String methodName, ComputerFunctionCaller<T> handler) {
             this.methodName = methodName;
@@ -53,7 +54,7 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
         }
 
         public MethodData<T> build() {
-            return new MethodData<>(methodName, restriction, requiredMods, threadSafe, argumentNames,argClasses, returnType, returnExtra, handler, methodDescription, requiresPublicSecurity);
+            return new MethodData<>(methodName, restriction, requiredMods, threadSafe, argumentNames,argClasses, returnType, returnExtra, handler, methodDescription, requiresPublicSecurity, cacheable);
         }
 
         public Builder<T> restriction(MethodRestriction restriction) {
@@ -99,5 +100,10 @@ public record MethodData<T>(String name, MethodRestriction restriction, String[]
             this.requiresPublicSecurity = true;
             return this;
         }
+
+        public Builder<T> cacheable() {
+            this.cacheable = true;
+            return this;
+        }
     }
 }
\ No newline at end of file
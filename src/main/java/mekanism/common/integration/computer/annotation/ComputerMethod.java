@@ -30,6 +30,12 @@ public @interface ComputerMethod {
      */
     boolean threadSafe() default false;
 
+    /**
+     * Whether this method only reads values, so that when it takes no arguments its value can be published once per tick for computers to read without waiting for the
+     * main thread, and included in the bulk telemetry method. Only set this for cheap getters, as all of them are called every tick while a computer is attached.
+     */
+    boolean cacheable() default false;
+
     /**
      * Whether this method will fail when security is not public. Documentation property.
      */
@@ -30,6 +30,11 @@ public @interface SyntheticComputerMethod {
      */
     boolean threadSafeGetter() default false;
 
+    /**
+     * Whether the value of the synthetic getter can be published once per tick for computers to read and included in the bulk telemetry method.
+     */
+    boolean cacheableGetter() default false;
+
     /**
      * Name to use for the synthetic setter.
      */
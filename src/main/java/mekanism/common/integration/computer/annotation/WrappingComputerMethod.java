@@ -40,6 +40,11 @@ public @interface WrappingComputerMethod {
      */
     boolean threadSafe() default false;
 
+    /**
+     * Whether the values of the generated wrapped methods can be published once per tick for computers to read and included in the bulk telemetry method.
+     */
+    boolean cacheable() default false;
+
     /**
      * Describe the wrapped element, to be used in the %s placeholder of target methods' docs.
      */
@@ -4,12 +4,16 @@ import dan200.computercraft.api.lua.IArguments;
 import dan200.computercraft.api.lua.ILuaContext;
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.MethodResult;
+import dan200.computercraft.api.lua.ObjectArguments;
+import mekanism.common.integration.computer.BaseComputerHelper;
 import mekanism.common.integration.computer.BoundMethodHolder;
 import mekanism.common.integration.computer.ComputerException;
+import mekanism.common.integration.computer.ComputerTelemetry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CCMethodCaller extends BoundMethodHolder {
@@ -35,8 +39,40 @@ public class CCMethodCaller extends BoundMethodHolder {
         if (methodToCall.threadSafe()) {
             return callHandler(arguments, methodToCall);
         }
+        //Cacheable methods can be answered without going to the main thread if the tile has published a record of their values that is still valid
+        if (isTelemetryMethod(methodToCall)) {
+            ComputerTelemetry.CachedValue cached = telemetry.get().getCurrent(methodToCall);
+            if (cached != null) {
+                return callTelemetry(cached);
+            }
+        } else if (isBulkTelemetryMethod(methodToCall)) {
+            Map<String, Object> values = telemetry.get().getAllCurrent();
+            if (values != null) {
+                return MethodResult.of(values);
+            }
+        }
         IArguments escaped = arguments.escapes();
-        return context.executeMainThreadTask(()->callHandler(escaped, methodToCall).getResult());
+        return context.executeMainThreadTask(() -> {
+            try {
+                return callHandler(escaped, methodToCall).getResult();
+            } finally {
+                onMethodCalled(methodToCall);
+            }
+        });
+    }
+
+    @Override
+    protected BaseComputerHelper createTelemetryHelper() {
+        return new CCComputerHelper(new ObjectArguments());
+    }
+
+    @NotNull
+    private static MethodResult callTelemetry(ComputerTelemetry.CachedValue cached) throws LuaException {
+        try {
+            return MethodResult.of(cached.get());
+        } catch (ComputerException ex) {
+            throw toLuaException(ex);
+        }
     }
 
     @NotNull
@@ -45,11 +81,15 @@ public class CCMethodCaller extends BoundMethodHolder {
         try {
             result = methodToCall.call(new CCComputerHelper(arguments));
         } catch (ComputerException ex) {
-            if (ex.getCause() instanceof LuaException luaException) {
-                throw luaException;
-            }
-            throw (LuaException)new LuaException(ex.getMessage()).initCause(ex);
+            throw toLuaException(ex);
         }
         return result instanceof MethodResult mr ? mr : MethodResult.of(result);
     }
+
+    private static LuaException toLuaException(ComputerException ex) {
+        if (ex.getCause() instanceof LuaException luaException) {
+            return luaException;
+        }
+        return (LuaException)new LuaException(ex.getMessage()).initCause(ex);
+    }
 }
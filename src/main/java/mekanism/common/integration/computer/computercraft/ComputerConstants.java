@@ -2,4 +2,5 @@ package mekanism.common.integration.computer.computercraft;
 
 public class ComputerConstants {
     public static final String DESCRIPTION_GET_ENERGY_USAGE = "Get the energy used in the last tick by the machine";
+    public static final String EVENT_SUBSCRIPTION = "mekanism_subscription";
 }
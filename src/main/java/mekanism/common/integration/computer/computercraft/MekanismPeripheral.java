@@ -4,27 +4,55 @@ import dan200.computercraft.api.lua.IArguments;
 import dan200.computercraft.api.lua.ILuaContext;
 import dan200.computercraft.api.lua.LuaException;
 import dan200.computercraft.api.lua.MethodResult;
+import dan200.computercraft.api.lua.ObjectArguments;
 import dan200.computercraft.api.peripheral.IComputerAccess;
 import dan200.computercraft.api.peripheral.IDynamicPeripheral;
 import dan200.computercraft.api.peripheral.IPeripheral;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import mekanism.common.integration.computer.BaseComputerHelper;
+import mekanism.common.integration.computer.ComputerException;
+import mekanism.common.integration.computer.ComputerSubscriptions;
+import mekanism.common.integration.computer.ComputerSubscriptions.SubscriptionListener;
+import mekanism.common.integration.computer.ComputerSubscriptions.SubscriptionMode;
 import mekanism.common.integration.computer.IComputerTile;
+import mekanism.common.integration.computer.MethodData;
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.util.Lazy;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.WeakReference;
 
 public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extends CCMethodCaller implements IDynamicPeripheral {
+
+    private static final MethodData<Object> SUBSCRIBE_METHOD = MethodData.builder("subscribe", MekanismPeripheral::requiresComputer)
+          .returnType(int.class)
+          .arguments(new String[]{"method", "mode", "value"}, new Class[]{String.class, SubscriptionMode.class, double.class})
+          .methodDescription("Subscribe to a read-only method that returns a number or boolean. A " + ComputerConstants.EVENT_SUBSCRIPTION
+                             + " event with the peripheral name, subscription id, method name, and new value is queued when the value goes above or below the given threshold,"
+                             + " or changes by at least the given amount. Returns the subscription id.")
+          .build();
+    private static final MethodData<Object> UNSUBSCRIBE_METHOD = MethodData.builder("unsubscribe", MekanismPeripheral::requiresComputer)
+          .returnType(boolean.class)
+          .arguments(new String[]{"id"}, new Class[]{int.class})
+          .methodDescription("Remove a subscription that was added by this computer. Returns true if the subscription existed.")
+          .build();
+
     /**
      * Only call this if the given tile actually has computer support as it won't be double-checked.
      */
     public static <TILE extends BlockEntity & IComputerTile> MekanismPeripheral<TILE> create(TILE tile) {
         MekanismPeripheral<TILE> mekanismPeripheral = new MekanismPeripheral<>(tile);
         tile.getComputerMethods(mekanismPeripheral);
+        mekanismPeripheral.register(SUBSCRIBE_METHOD, null, false);
+        mekanismPeripheral.register(UNSUBSCRIBE_METHOD, null, false);
         return mekanismPeripheral;
     }
 
     private final String name;
     private final WeakReference<TILE> tile;
+    private final Lazy<ComputerSubscriptions> subscriptions = Lazy.of(() -> new ComputerSubscriptions(new CCComputerHelper(new ObjectArguments())));
+    private final Map<IComputerAccess, SubscriptionListener> subscriptionListeners = new ConcurrentHashMap<>();
 
     private MekanismPeripheral(TILE tile) {
         this.tile = new WeakReference<>(tile);
@@ -33,9 +61,71 @@ public class MekanismPeripheral<TILE extends BlockEntity & IComputerTile> extend
 
     @Override
     public MethodResult callMethod(IComputerAccess computer, ILuaContext context, int method, IArguments arguments) throws LuaException {
+        String[] methodNames = getMethodNames();
+        if (method < methodNames.length) {
+            //Subscriptions need to know which computer to send the events to, so we handle them here instead of in their method handlers
+            String methodName = methodNames[method];
+            if (methodName.equals(SUBSCRIBE_METHOD.name()) && arguments.count() == SUBSCRIBE_METHOD.argumentNames().length) {
+                return subscribe(computer, context, arguments);
+            } else if (methodName.equals(UNSUBSCRIBE_METHOD.name()) && arguments.count() == UNSUBSCRIBE_METHOD.argumentNames().length) {
+                return MethodResult.of(subscriptions.get().unsubscribe(arguments.getInt(0), getSubscriptionListener(computer)));
+            }
+        }
         return callMethod(context, method, arguments);
     }
 
+    private MethodResult subscribe(IComputerAccess computer, ILuaContext context, IArguments arguments) throws LuaException {
+        String methodName = arguments.getString(0);
+        SubscriptionMode mode = arguments.getEnum(1, SubscriptionMode.class);
+        double value = arguments.getFiniteDouble(2);
+        BoundMethodData<?> toSubscribe = methods.get(methodName).stream()
+              .filter(md -> md.argumentNames().length == 0)
+              .findAny()
+              .orElseThrow(() -> new LuaException("No method named '" + methodName + "' that takes no arguments."));
+        SubscriptionListener listener = getSubscriptionListener(computer);
+        return context.executeMainThreadTask(() -> {
+            TILE target = tile.get();
+            if (target == null || !target.addComputerSubscriptions(subscriptions.get())) {
+                throw new LuaException("This block does not support subscriptions.");
+            }
+            try {
+                return new Object[]{subscriptions.get().subscribe(toSubscribe, mode, value, listener)};
+            } catch (ComputerException ex) {
+                throw new LuaException(ex.getMessage());
+            }
+        });
+    }
+
+    private SubscriptionListener getSubscriptionListener(IComputerAccess computer) {
+        return subscriptionListeners.computeIfAbsent(computer, c -> (id, method, value) -> c.queueEvent(ComputerConstants.EVENT_SUBSCRIPTION, c.getAttachmentName(), id,
+              method, value));
+    }
+
+    @Override
+    public void attach(IComputerAccess computer) {
+        TILE target = tile.get();
+        if (target != null) {
+            //Have the tile publish the values of our cacheable methods each tick while a computer is attached
+            telemetry.get().attach(target);
+        }
+    }
+
+    @Override
+    public void detach(IComputerAccess computer) {
+        SubscriptionListener listener = subscriptionListeners.remove(computer);
+        if (listener != null) {
+            subscriptions.get().unsubscribeAll(listener);
+        }
+        TILE target = tile.get();
+        if (target != null) {
+            telemetry.get().detach(target);
+        }
+    }
+
+    private static Object requiresComputer(@Nullable Object subject, BaseComputerHelper helper) throws ComputerException {
+        throw new ComputerException("Subscriptions can only be managed by a computer the peripheral is attached to.");
+    }
+
     @Override
     public String getType() {
         return name;
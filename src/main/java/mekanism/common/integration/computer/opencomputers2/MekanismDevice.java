@@ -1,5 +1,6 @@
 package mekanism.common.integration.computer.opencomputers2;
 
+import com.google.gson.JsonArray;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -14,6 +15,7 @@ import mekanism.api.annotations.ParametersAreNotNullByDefault;
 import mekanism.common.integration.computer.BaseComputerHelper;
 import mekanism.common.integration.computer.BoundMethodHolder;
 import mekanism.common.integration.computer.ComputerEnergyHelper;
+import mekanism.common.integration.computer.ComputerTelemetry;
 import mekanism.common.integration.computer.FactoryRegistry;
 import mekanism.common.integration.computer.IComputerTile;
 import net.minecraft.MethodsReturnNonnullByDefault;
@@ -44,6 +46,28 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> extends Bo
         this.attachedTile = new WeakReference<>(tile);
     }
 
+    @Override
+    public void mount() {
+        TILE tile = attachedTile.get();
+        if (tile != null) {
+            //Have the tile publish the values of our cacheable methods each tick while we are mounted
+            telemetry.get().attach(tile);
+        }
+    }
+
+    @Override
+    public void unmount() {
+        TILE tile = attachedTile.get();
+        if (tile != null) {
+            telemetry.get().detach(tile);
+        }
+    }
+
+    @Override
+    protected BaseComputerHelper createTelemetryHelper() {
+        return new OC2ComputerHelper(new JsonArray());
+    }
+
     @Override
     public List<String> getTypeNames() {
         return name;
@@ -111,7 +135,7 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> extends Bo
         }
     }
 
-    private static class Method implements RPCMethod {
+    private class Method implements RPCMethod {
         private final String name;
         private final BoundMethodData<?> methodData;
         private final Class<?> returnType;
@@ -141,7 +165,18 @@ public class MekanismDevice<TILE extends BlockEntity & IComputerTile> extends Bo
         @Nullable
         @Override
         public Object invoke(RPCInvocation invocation) throws Throwable {
-            return methodData.call(new OC2ComputerHelper(invocation));
+            OC2ComputerHelper helper = new OC2ComputerHelper(invocation);
+            if (isTelemetryMethod(methodData)) {
+                ComputerTelemetry.CachedValue cached = telemetry.get().getCurrent(methodData);
+                if (cached != null) {
+                    return cached.get();
+                }
+            }
+            try {
+                return methodData.call(helper);
+            } finally {
+                onMethodCalled(methodData);
+            }
         }
 
         @Override
@@ -10,14 +10,17 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Map;
 
 public class OC2ComputerHelper extends BaseComputerHelper {
-    private final RPCInvocation invocation;
+    private final JsonArray parameters;
 
     public OC2ComputerHelper(RPCInvocation invocation) {
-        this.invocation = invocation;
+        this(invocation.getParameters());
+    }
+
+    public OC2ComputerHelper(JsonArray parameters) {
+        this.parameters = parameters;
     }
 
     private JsonElement getParam(int param) throws ComputerException {
-        JsonArray parameters = invocation.getParameters();
         if (parameters.size() <= param) {
             throw new ComputerException("Missing argument in position "+param);
         }
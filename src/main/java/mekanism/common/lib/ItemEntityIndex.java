@@ -0,0 +1,147 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of the item entities in each chunk section that is shared by everything in Mekanism that collects items, so that when multiple collectors are near each other,
+ * such as Robits parked by a mob farm, the item entities in a section only have to be looked up once per tick instead of once per collector.
+ *
+ * @implNote Sections are indexed the first time they are queried in a tick, so items that spawn in a section after it has been indexed will be found the next tick. As
+ * indexing a whole area is slower than a single lookup when there is only one collector, the index is only used for areas that overlapped the area of another collector
+ * in the previous tick.
+ */
+@NothingNullByDefault
+public class ItemEntityIndex {
+
+    /**
+     * How far outside the queried area to look for items, as items are indexed by the section their position is in, but an item's bounding box may overlap the area even
+     * if its position is just outside it.
+     */
+    private static final double MARGIN = 0.5;
+
+    private static final Map<ResourceKey<Level>, LevelIndex> indices = new Object2ObjectOpenHashMap<>();
+
+    private ItemEntityIndex() {
+    }
+
+    /**
+     * Gets all the living item entities whose bounding box intersects the given area.
+     *
+     * @param collector Entity that is collecting the items, used to tell whether other collectors are nearby.
+     * @param area      Area to get the items in.
+     * @param filter    Filter the items have to match.
+     *
+     * @apiNote Must only be called on the server.
+     */
+    public static List<ItemEntity> getItems(Entity collector, AABB area, Predicate<ItemEntity> filter) {
+        Level level = collector.level();
+        LevelIndex index = indices.computeIfAbsent(level.dimension(), dimension -> new LevelIndex());
+        long gameTime = level.getGameTime();
+        if (index.level != level) {
+            //The level was reloaded, start over
+            index.level = level;
+            index.gameTime = gameTime;
+            index.sections.clear();
+            index.areas.clear();
+            index.previousAreas.clear();
+        } else if (index.gameTime != gameTime) {
+            //The index is from a previous tick, keep track of where collectors were last tick and start over
+            index.gameTime = gameTime;
+            index.sections.clear();
+            List<CollectorArea> previousAreas = index.previousAreas;
+            previousAreas.clear();
+            index.previousAreas = index.areas;
+            index.areas = previousAreas;
+        }
+        index.areas.add(new CollectorArea(collector, area));
+        if (!hasNearbyCollector(index, collector, area)) {
+            //Only a single collector is in range, so just look up the items directly as nothing else will need them
+            return level.getEntitiesOfClass(ItemEntity.class, area, item -> item.isAlive() && filter.test(item));
+        }
+        List<ItemEntity> items = new ArrayList<>();
+        int minX = SectionPos.blockToSectionCoord(area.minX - MARGIN);
+        int minY = SectionPos.blockToSectionCoord(area.minY - MARGIN);
+        int minZ = SectionPos.blockToSectionCoord(area.minZ - MARGIN);
+        int maxX = SectionPos.blockToSectionCoord(area.maxX + MARGIN);
+        int maxY = SectionPos.blockToSectionCoord(area.maxY + MARGIN);
+        int maxZ = SectionPos.blockToSectionCoord(area.maxZ + MARGIN);
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (ItemEntity item : index.sections.computeIfAbsent(SectionPos.asLong(x, y, z), section -> indexSection(level, section))) {
+                        if (item.isAlive() && item.getBoundingBox().intersects(area) && filter.test(item)) {
+                            items.add(item);
+                        }
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Checks if any other collector queried an area that overlaps the given area during the previous tick.
+     *
+     * @implNote A single collector may query multiple areas (for example a Robit's pickup and collection ranges), so areas queried by the same collector are ignored.
+     */
+    private static boolean hasNearbyCollector(LevelIndex index, Entity collector, AABB area) {
+        for (CollectorArea previousArea : index.previousAreas) {
+            if (previousArea.collector() != collector && previousArea.area().intersects(area)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<ItemEntity> indexSection(Level level, long section) {
+        int minX = SectionPos.sectionToBlockCoord(SectionPos.x(section));
+        int minY = SectionPos.sectionToBlockCoord(SectionPos.y(section));
+        int minZ = SectionPos.sectionToBlockCoord(SectionPos.z(section));
+        AABB bounds = new AABB(minX, minY, minZ, minX + SectionPos.SECTION_SIZE, minY + SectionPos.SECTION_SIZE, minZ + SectionPos.SECTION_SIZE);
+        //Only keep the items whose position is in the section so that items on the border of two sections don't get found twice
+        List<ItemEntity> items = level.getEntitiesOfClass(ItemEntity.class, bounds, item -> SectionPos.asLong(item.blockPosition()) == section);
+        return items.isEmpty() ? Collections.emptyList() : items;
+    }
+
+    /**
+     * Removes the index for the given level so that it doesn't keep the level or any of its item entities loaded.
+     */
+    public static void onLevelUnload(Level level) {
+        LevelIndex index = indices.get(level.dimension());
+        if (index != null && index.level == level) {
+            indices.remove(level.dimension());
+        }
+    }
+
+    public static void reset() {
+        indices.clear();
+    }
+
+    private static class LevelIndex {
+
+        private final Long2ObjectMap<List<ItemEntity>> sections = new Long2ObjectOpenHashMap<>();
+        private List<CollectorArea> areas = new ArrayList<>();
+        private List<CollectorArea> previousAreas = new ArrayList<>();
+        @Nullable
+        private Level level;
+        private long gameTime;
+    }
+
+    private record CollectorArea(Entity collector, AABB area) {
+    }
+}
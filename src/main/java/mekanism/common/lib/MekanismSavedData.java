@@ -1,9 +1,26 @@
 package mekanism.common.lib;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import mekanism.common.Mekanism;
+import net.minecraft.SharedConstants;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
@@ -12,24 +29,99 @@ import org.jetbrains.annotations.NotNull;
 
 public abstract class MekanismSavedData extends SavedData {
 
+    /**
+     * Single threaded so that writes of the same file are always performed in the order they were requested.
+     */
+    private static final ExecutorService SAVE_EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+          .setNameFormat("Mekanism Saved Data IO")
+          .setDaemon(true)
+          .build());
+    private static final Map<String, SaveMetrics> SAVE_METRICS = new ConcurrentHashMap<>();
+
+    /**
+     * Set from the IO thread if writing the last snapshot failed, so that the data is still considered dirty and gets saved again.
+     */
+    private volatile boolean writeFailed;
+    /**
+     * The most recent snapshot that has been queued to be written but hasn't finished being written yet, so that reloading the data doesn't have to wait for it to be
+     * written to disk.
+     */
+    private final AtomicReference<CompoundTag> pendingWrite = new AtomicReference<>();
+
     public abstract void load(@NotNull CompoundTag nbt);
 
+    @Override
+    public boolean isDirty() {
+        return super.isDirty() || writeFailed;
+    }
+
     @Override
     public void save(@NotNull File file) {
         if (isDirty()) {
-            //This is loosely based on Refined Storage's RSSavedData's system of saving first to a temp file
-            // to reduce the odds of corruption if the user's computer crashes while the file is being written
-            File tempFile = file.toPath().getParent().resolve(file.getName() + ".tmp").toFile();
-            super.save(tempFile);
-            if (file.exists() && !file.delete()) {
-                Mekanism.logger.error("Failed to delete " + file.getName());
-            }
-            if (!tempFile.renameTo(file)) {
-                Mekanism.logger.error("Failed to rename " + tempFile.getName());
+            writeFailed = false;
+            //Snapshot the data on the server thread, and then compress and write it off thread so that large data doesn't stall the server
+            long start = System.nanoTime();
+            CompoundTag tag = new CompoundTag();
+            tag.put("data", save(new CompoundTag()));
+            NbtUtils.addCurrentDataVersion(tag);
+            setDirty(false);
+            long snapshotTime = System.nanoTime() - start;
+            pendingWrite.set(tag);
+            SAVE_EXECUTOR.execute(() -> write(file, tag, snapshotTime));
+        }
+    }
+
+    private void write(File file, CompoundTag tag, long snapshotTime) {
+        long start = System.nanoTime();
+        Path path = file.toPath();
+        //This is loosely based on Refined Storage's RSSavedData's system of saving first to a temp file
+        // to reduce the odds of corruption if the user's computer crashes while the file is being written
+        Path tempPath = path.resolveSibling(file.getName() + ".tmp");
+        try {
+            NbtIo.writeCompressed(tag, tempPath.toFile());
+            try {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
             }
+            SaveMetrics metrics = new SaveMetrics(snapshotTime, System.nanoTime() - start, Files.size(path));
+            SAVE_METRICS.put(file.getName(), metrics);
+            Mekanism.logger.debug("Saved {} ({} bytes) in {} ms on the server thread and {} ms writing.", file.getName(), metrics.size(),
+                  metrics.snapshotTime() / 1_000_000D, metrics.writeTime() / 1_000_000D);
+        } catch (IOException e) {
+            Mekanism.logger.error("Could not save data {}", file.getName(), e);
+            //The data was marked as not dirty when the snapshot was taken, so mark that it still needs to be saved
+            writeFailed = true;
+        } finally {
+            //Only clear the pending write if a newer snapshot hasn't been queued since
+            pendingWrite.compareAndSet(tag, null);
+        }
+    }
+
+    /**
+     * Blocks until all pending saves have been written to disk.
+     *
+     * @apiNote Should be called after the server has stopped so that the final save of the data is guaranteed to be written.
+     */
+    public static void flushSaves() {
+        try {
+            SAVE_EXECUTOR.submit(() -> {
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Mekanism.logger.error("Interrupted while waiting for saved data to be written", e);
+        } catch (ExecutionException e) {
+            Mekanism.logger.error("Failed to wait for saved data to be written", e);
         }
     }
 
+    /**
+     * @return The metrics of the last time each saved data file was written, keyed by file name.
+     */
+    public static Map<String, SaveMetrics> getSaveMetrics() {
+        return Collections.unmodifiableMap(SAVE_METRICS);
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -50,6 +142,50 @@ public abstract class MekanismSavedData extends SavedData {
             DATA handler = createFunction.get();
             handler.load(tag);
             return handler;
-        }, createFunction, Mekanism.MODID + "_" + name);
+        }, createFunction, getFileName(name));
+    }
+
+    /**
+     * Reads the last saved state of the given data back, for use by data that unloads its contents while it is not in use.
+     *
+     * @return {@code false} if there was no saved data to read.
+     *
+     * @apiNote This should only be called from the server side, and only when the data is not dirty as otherwise any unsaved changes will be lost.
+     * @implNote If the last save of the data is still waiting to be written, the snapshot that is being written is loaded directly rather than blocking until it has been
+     * written to disk. Otherwise, the data is read from disk.
+     */
+    public static boolean reloadSavedData(MekanismSavedData data, String name) {
+        MinecraftServer currentServer = ServerLifecycleHooks.getCurrentServer();
+        if (currentServer == null) {
+            throw new IllegalStateException("Current server is null");
+        }
+        CompoundTag pending = data.pendingWrite.get();
+        if (pending != null) {
+            //Note: The snapshot is only read from, both here and when it is being written, so it is safe to load it while it is being written
+            data.load(pending.getCompound("data"));
+            return true;
+        }
+        try {
+            CompoundTag tag = currentServer.overworld().getDataStorage().readTagFromDisk(getFileName(name), SharedConstants.getCurrentVersion().getDataVersion().getVersion());
+            data.load(tag.getCompound("data"));
+            return true;
+        } catch (FileNotFoundException e) {
+            return false;
+        } catch (IOException e) {
+            Mekanism.logger.error("Could not reload data {}", name, e);
+            return false;
+        }
+    }
+
+    private static String getFileName(String name) {
+        return Mekanism.MODID + "_" + name;
+    }
+
+    /**
+     * @param snapshotTime Nanoseconds spent on the server thread serializing the data.
+     * @param writeTime    Nanoseconds spent off thread compressing and writing the data.
+     * @param size         Size in bytes of the written file.
+     */
+    public record SaveMetrics(long snapshotTime, long writeTime, long size) {
     }
-}
\ No newline at end of file
+}
@@ -1,44 +1,144 @@
 package mekanism.common.lib;
 
 import java.util.Locale;
+import java.util.function.Predicate;
+import mekanism.common.lib.collection.BoundedCache;
 import net.minecraft.tags.TagKey;
 
 public class WildcardMatcher {
 
+    /**
+     * Maximum number of compiled wildcards to cache, as wildcards come from user input and can therefore be arbitrary.
+     */
+    private static final int MAX_CACHED_WILDCARDS = 1_024;
+    //Note: This is thread safe as wildcards are matched on both the client (QIO searches) and the server (filters)
+    private static final BoundedCache<String, CompiledWildcard> compiledWildcards = new BoundedCache<>(MAX_CACHED_WILDCARDS);
+
     private WildcardMatcher() {
     }
 
+    /**
+     * Gets the compiled form of the given wildcard, compiling it if it hasn't been compiled recently. Compiled wildcards are shared by everything that matches against
+     * the same wildcard.
+     */
+    public static CompiledWildcard compile(String wildcard) {
+        return compiledWildcards.computeIfAbsent(wildcard, CompiledWildcard::new);
+    }
+
     public static boolean matches(String wildcard, TagKey<?> key) {
-        return matches(wildcard, key.location().toString());
+        return compile(wildcard).matches(key);
     }
 
     public static boolean matches(String wildcard, String text) {
-        return matches(wildcard.toLowerCase(Locale.ROOT), text.toLowerCase(Locale.ROOT), 0, 0, false);
+        return compile(wildcard).test(text);
     }
 
-    private static boolean matches(String wildcard, String text, int wildcardStartIndex, int textIndex, boolean continueSearch) {
-        for (int wildcardIndex = wildcardStartIndex; wildcardIndex < wildcard.length(); wildcardIndex++) {
-            char wc = wildcard.charAt(wildcardIndex);
-            boolean fail = false;
-            if (wc == '*') {
-                return matches(wildcard, text, wildcardIndex + 1, textIndex, true);
-            } else if (textIndex >= text.length()) {
-                return false;
-            } else if (wc == '#') {
-                if (!Character.isDigit(text.charAt(textIndex))) {
-                    fail = true;
-                }
-            } else if (wc != '?') {
-                if (wc != text.charAt(textIndex)) {
-                    fail = true;
+    /**
+     * Matches the given text against a wildcard that may contain any number of {@code *}, {@code ?} and {@code #} characters.
+     *
+     * @implNote When the characters after a {@code *} stop matching, we go back to the most recent {@code *} and let it consume one more character, so that a partial
+     * match earlier in the text (such as the first {@code test} when matching {@code *tes?} against {@code atestbtest}) doesn't prevent a later full match. Only the most
+     * recent {@code *} ever needs to be retried, so this runs in at worst {@code O(wildcard length * text length)}.
+     */
+    private static boolean matchesComplex(String wildcard, String text) {
+        int wildcardIndex = 0;
+        int textIndex = 0;
+        int starIndex = -1;
+        int starTextIndex = 0;
+        while (textIndex < text.length()) {
+            if (wildcardIndex < wildcard.length()) {
+                char wc = wildcard.charAt(wildcardIndex);
+                if (wc == '*') {
+                    //Remember where the star is and start by having it match nothing
+                    starIndex = wildcardIndex++;
+                    starTextIndex = textIndex;
+                    continue;
+                } else if (matchesChar(wc, text.charAt(textIndex))) {
+                    wildcardIndex++;
+                    textIndex++;
+                    continue;
                 }
             }
-            if (fail) {
-                return continueSearch && matches(wildcard, text, wildcardStartIndex, textIndex + 1, true);
+            if (starIndex == -1) {
+                //There is no star to backtrack to, so the text doesn't match
+                return false;
             }
-            textIndex++;
+            //Have the last star match one more character and try again from just after it
+            wildcardIndex = starIndex + 1;
+            textIndex = ++starTextIndex;
         }
-        // break if there's more text left, and we didn't end our query with a wildcard char
-        return textIndex >= text.length() || (!wildcard.isEmpty() && wildcard.charAt(wildcard.length() - 1) == '*');
+        //We used up all the text, so we only match if the remainder of the wildcard can match nothing
+        while (wildcardIndex < wildcard.length() && wildcard.charAt(wildcardIndex) == '*') {
+            wildcardIndex++;
+        }
+        return wildcardIndex == wildcard.length();
+    }
+
+    private static boolean matchesChar(char wc, char c) {
+        return switch (wc) {
+            case '?' -> true;
+            case '#' -> Character.isDigit(c);
+            default -> wc == c;
+        };
+    }
+
+    /**
+     * A wildcard that has been lower-cased and analyzed once, so that the common cases of wildcards without any special characters, or that only start and/or end with
+     * {@code *}, can be matched with a simple string comparison.
+     */
+    public static final class CompiledWildcard implements Predicate<String> {
+
+        private final String wildcard;
+        private final MatchType type;
+        private final String literal;
+
+        private CompiledWildcard(String wildcard) {
+            this.wildcard = wildcard.toLowerCase(Locale.ROOT);
+            int start = 0;
+            int end = this.wildcard.length();
+            while (start < end && this.wildcard.charAt(start) == '*') {
+                start++;
+            }
+            while (end > start && this.wildcard.charAt(end - 1) == '*') {
+                end--;
+            }
+            String core = this.wildcard.substring(start, end);
+            if (core.indexOf('*') != -1 || core.indexOf('?') != -1 || core.indexOf('#') != -1) {
+                type = MatchType.COMPLEX;
+            } else if (start > 0 && end < this.wildcard.length()) {
+                type = MatchType.CONTAINS;
+            } else if (start > 0) {
+                type = MatchType.SUFFIX;
+            } else if (end < this.wildcard.length()) {
+                type = MatchType.PREFIX;
+            } else {
+                type = MatchType.EXACT;
+            }
+            literal = core;
+        }
+
+        public boolean matches(TagKey<?> key) {
+            return test(key.location().toString());
+        }
+
+        @Override
+        public boolean test(String text) {
+            text = text.toLowerCase(Locale.ROOT);
+            return switch (type) {
+                case EXACT -> text.equals(literal);
+                case PREFIX -> text.startsWith(literal);
+                case SUFFIX -> text.endsWith(literal);
+                case CONTAINS -> text.contains(literal);
+                case COMPLEX -> matchesComplex(wildcard, text);
+            };
+        }
+    }
+
+    private enum MatchType {
+        EXACT,
+        PREFIX,
+        SUFFIX,
+        CONTAINS,
+        COMPLEX
     }
 }
@@ -0,0 +1,55 @@
+package mekanism.common.lib.collection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache that holds at most a fixed number of entries, evicting the least recently used entry when full. Meant for caches that are keyed by user input, such
+ * as filter wildcards, where the number of distinct keys is unbounded.
+ *
+ * @implNote Values are computed outside the lock, so two threads that miss the same key at the same time may both compute it, but only the first value is kept.
+ */
+public class BoundedCache<KEY, VALUE> {
+
+    private final Map<KEY, VALUE> cache;
+
+    public BoundedCache(int maxSize) {
+        //Access ordered so that the eldest entry is the least recently used one
+        this.cache = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<KEY, VALUE> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public VALUE computeIfAbsent(KEY key, Function<? super KEY, ? extends VALUE> mappingFunction) {
+        VALUE value;
+        synchronized (cache) {
+            value = cache.get(key);
+        }
+        if (value == null) {
+            VALUE computed = mappingFunction.apply(key);
+            synchronized (cache) {
+                value = cache.putIfAbsent(key, computed);
+            }
+            if (value == null) {
+                value = computed;
+            }
+        }
+        return value;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
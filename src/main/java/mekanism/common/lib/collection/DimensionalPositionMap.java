@@ -0,0 +1,146 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import mekanism.api.Coord4D;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Map of positions in any dimension to values. Positions are stored per dimension as {@link BlockPos#asLong() packed longs} in primitive maps, so that unlike when using
+ * {@link Coord4D} as the key, looking up a position doesn't require allocating anything.
+ */
+@NothingNullByDefault
+public class DimensionalPositionMap<V> {
+
+    private static final DimensionalPositionMap<?> EMPTY = new DimensionalPositionMap<>(Collections.emptyMap());
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<V>> dimensions;
+    private int size;
+
+    public DimensionalPositionMap() {
+        this(new Object2ObjectOpenHashMap<>());
+    }
+
+    private DimensionalPositionMap(Map<ResourceKey<Level>, Long2ObjectMap<V>> dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    /**
+     * @return An empty map that can't be modified.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> DimensionalPositionMap<V> empty() {
+        return (DimensionalPositionMap<V>) EMPTY;
+    }
+
+    public static long pack(Coord4D coord) {
+        return BlockPos.asLong(coord.getX(), coord.getY(), coord.getZ());
+    }
+
+    /**
+     * @return The positions and values in the given dimension. The returned map should not be modified.
+     */
+    public Long2ObjectMap<V> getDimension(ResourceKey<Level> dimension) {
+        Long2ObjectMap<V> positions = dimensions.get(dimension);
+        return positions == null ? Long2ObjectMaps.emptyMap() : positions;
+    }
+
+    @Nullable
+    public V get(ResourceKey<Level> dimension, long pos) {
+        Long2ObjectMap<V> positions = dimensions.get(dimension);
+        return positions == null ? null : positions.get(pos);
+    }
+
+    @Nullable
+    public V get(ResourceKey<Level> dimension, BlockPos pos) {
+        return get(dimension, pos.asLong());
+    }
+
+    @Nullable
+    public V get(Coord4D coord) {
+        return get(coord.dimension, pack(coord));
+    }
+
+    public boolean containsKey(ResourceKey<Level> dimension, long pos) {
+        Long2ObjectMap<V> positions = dimensions.get(dimension);
+        return positions != null && positions.containsKey(pos);
+    }
+
+    @Nullable
+    public V put(ResourceKey<Level> dimension, long pos, V value) {
+        V previous = dimensions.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>()).put(pos, value);
+        if (previous == null) {
+            size++;
+        }
+        return previous;
+    }
+
+    @Nullable
+    public V put(Coord4D coord, V value) {
+        return put(coord.dimension, pack(coord), value);
+    }
+
+    public V computeIfAbsent(ResourceKey<Level> dimension, long pos, LongFunction<V> mappingFunction) {
+        Long2ObjectMap<V> positions = dimensions.computeIfAbsent(dimension, dim -> new Long2ObjectOpenHashMap<>());
+        V value = positions.get(pos);
+        if (value == null) {
+            value = mappingFunction.apply(pos);
+            positions.put(pos, value);
+            size++;
+        }
+        return value;
+    }
+
+    @Nullable
+    public V remove(ResourceKey<Level> dimension, long pos) {
+        Long2ObjectMap<V> positions = dimensions.get(dimension);
+        if (positions == null) {
+            return null;
+        }
+        V removed = positions.remove(pos);
+        if (removed != null) {
+            size--;
+            if (positions.isEmpty()) {
+                dimensions.remove(dimension);
+            }
+        }
+        return removed;
+    }
+
+    @Nullable
+    public V remove(Coord4D coord) {
+        return remove(coord.dimension, pack(coord));
+    }
+
+    /**
+     * Performs the given action for the values in all dimensions.
+     */
+    public void forEachValue(Consumer<V> action) {
+        for (Long2ObjectMap<V> positions : dimensions.values()) {
+            positions.values().forEach(action);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        dimensions.clear();
+        size = 0;
+    }
+}
@@ -1,6 +1,8 @@
 package mekanism.common.lib.frequency;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import mekanism.api.IFrequency;
 import mekanism.api.NBTConstants;
@@ -27,6 +29,7 @@ public abstract class Frequency implements IFrequency {
     private boolean publicFreq;
 
     private final FrequencyType<?> frequencyType;
+    private final Set<BlockEntity> activeTiles = new ReferenceOpenHashSet<>();
 
     /**
      * @param uuid Should only be null if we have incomplete data that we are loading
@@ -60,6 +63,7 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by deactivating the block and the frequency needs to be saved.
      */
     public boolean onDeactivate(BlockEntity tile) {
+        activeTiles.remove(tile);
         return false;
     }
 
@@ -67,9 +71,17 @@ public abstract class Frequency implements IFrequency {
      * @return {@code true} if persistent data was changed by updating the block and the frequency needs to be saved.
      */
     public boolean update(BlockEntity tile) {
+        activeTiles.add(tile);
         return false;
     }
 
+    /**
+     * @return {@code true} if there are any loaded blocks that are currently using this frequency.
+     */
+    public boolean isActive() {
+        return !activeTiles.isEmpty();
+    }
+
     public FrequencyType<?> getType() {
         return frequencyType;
     }
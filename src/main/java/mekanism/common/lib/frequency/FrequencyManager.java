@@ -1,6 +1,7 @@
 package mekanism.common.lib.frequency;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -8,10 +9,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.NBTConstants;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
 import mekanism.common.util.NBTUtils;
+import net.minecraft.SharedConstants;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -22,12 +25,24 @@ import org.jetbrains.annotations.Nullable;
 public class FrequencyManager<FREQ extends Frequency> {
 
     public static final int MAX_FREQ_LENGTH = 16;
+    /**
+     * How often frequencies that aren't used by any loaded blocks get ticked, so that any changes made to them while they are not in use still get saved.
+     */
+    private static final int INACTIVE_TICK_RATE = SharedConstants.TICKS_PER_SECOND;
+    /**
+     * How long a private manager can go without being accessed or having any frequencies in use by loaded blocks before its frequencies get unloaded.
+     */
+    private static final int UNLOAD_DELAY = 5 * 60 * SharedConstants.TICKS_PER_SECOND;
 
     private static boolean loaded;
 
     private static final Set<FrequencyManager<?>> managers = new ObjectOpenHashSet<>();
 
     private final Map<Object, FREQ> frequencies = new LinkedHashMap<>();
+    /**
+     * Frequencies that are in use by loaded blocks, and therefore need to be ticked every tick.
+     */
+    private final Set<FREQ> activeFrequencies = new ReferenceLinkedOpenHashSet<>();
 
     /**
      * Note: This can and will be null on the client side
@@ -38,17 +53,30 @@ public class FrequencyManager<FREQ extends Frequency> {
     private UUID ownerUUID;
 
     private final FrequencyType<FREQ> frequencyType;
+    /**
+     * Whether this manager is allowed to unload its frequencies when it isn't in use. Only private managers support this as they are only needed while their owner
+     * or blocks using them are around.
+     */
+    private final boolean canUnload;
+    private boolean unloaded;
+    private int idleTicks;
+    private int inactiveTicks;
 
     public FrequencyManager(FrequencyType<FREQ> frequencyType) {
-        this.frequencyType = frequencyType;
-        managers.add(this);
+        this(frequencyType, false);
     }
 
     public FrequencyManager(FrequencyType<FREQ> frequencyType, UUID uuid) {
-        this(frequencyType);
+        this(frequencyType, true);
         ownerUUID = uuid;
     }
 
+    private FrequencyManager(FrequencyType<FREQ> frequencyType, boolean canUnload) {
+        this.frequencyType = frequencyType;
+        this.canUnload = canUnload;
+        managers.add(this);
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -74,16 +102,21 @@ public class FrequencyManager<FREQ extends Frequency> {
     public static void reset() {
         for (FrequencyManager<?> manager : managers) {
             manager.frequencies.clear();
+            manager.activeFrequencies.clear();
             manager.dataHandler = null;
+            manager.unloaded = false;
+            manager.idleTicks = 0;
         }
         loaded = false;
     }
 
     public boolean remove(Object key, UUID ownerUUID) {
-        FREQ freq = getFrequency(key);
+        markAccessed();
+        FREQ freq = frequencies.get(key);
         if (freq != null && freq.ownerMatches(ownerUUID)) {
             freq.onRemove();
             frequencies.remove(key);
+            activeFrequencies.remove(freq);
             markDirty();
             return true;
         }
@@ -91,21 +124,37 @@ public class FrequencyManager<FREQ extends Frequency> {
     }
 
     public void deactivate(@Nullable Frequency freq, BlockEntity tile) {
-        if (freq != null && freq.onDeactivate(tile)) {
-            markDirty();
+        if (freq != null) {
+            if (freq.onDeactivate(tile)) {
+                markDirty();
+            }
+            if (!freq.isActive()) {
+                activeFrequencies.remove(freq);
+            }
         }
     }
 
     public FREQ validateAndUpdate(BlockEntity tile, FREQ freq) {
+        markAccessed();
         FREQ storedFreq = frequencies.computeIfAbsent(freq.getKey(), key -> {
             freq.setValid(true);
             markDirty();
             return freq;
         });
-        if (storedFreq.update(tile)) {
+        activate(storedFreq, tile);
+        return storedFreq;
+    }
+
+    /**
+     * Marks the given frequency as being in use by the given block.
+     */
+    public void activate(FREQ freq, BlockEntity tile) {
+        if (freq.update(tile)) {
             markDirty();
         }
-        return storedFreq;
+        if (freq.isActive()) {
+            activeFrequencies.add(freq);
+        }
     }
 
     /**
@@ -121,14 +170,17 @@ public class FrequencyManager<FREQ extends Frequency> {
     }
 
     public Collection<FREQ> getFrequencies() {
+        markAccessed();
         return frequencies.values();
     }
 
     public FREQ getFrequency(Object key) {
+        markAccessed();
         return frequencies.get(key);
     }
 
     public FREQ getOrCreateFrequency(FrequencyIdentity identity, @Nullable UUID ownerUUID) {
+        markAccessed();
         return frequencies.computeIfAbsent(identity.key(), key -> {
             FREQ freq = frequencyType.create(key, ownerUUID);
             freq.setPublic(identity.isPublic());
@@ -138,6 +190,7 @@ public class FrequencyManager<FREQ extends Frequency> {
     }
 
     public void addFrequency(FREQ freq) {
+        markAccessed();
         frequencies.put(freq.getKey(), freq);
         markDirty();
     }
@@ -152,14 +205,63 @@ public class FrequencyManager<FREQ extends Frequency> {
         return frequencyType;
     }
 
+    /**
+     * Resets how long this manager has been idle for, and if it had unloaded its frequencies loads them again.
+     */
+    private void markAccessed() {
+        idleTicks = 0;
+        if (unloaded) {
+            unloaded = false;
+            if (dataHandler != null && MekanismSavedData.reloadSavedData(dataHandler, getName())) {
+                dataHandler.syncManager();
+            }
+        }
+    }
+
     private void tickSelf() {
+        if (unloaded) {
+            return;
+        }
         boolean dirty = false;
-        for (FREQ freq : getFrequencies()) {
-            dirty |= freq.tick();
+        if (++inactiveTicks >= INACTIVE_TICK_RATE || CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Every so often (or if caches need to be invalidated) tick all frequencies, rather than just the ones that are in use
+            inactiveTicks = 0;
+            for (FREQ freq : frequencies.values()) {
+                dirty |= tickFrequency(freq);
+            }
+        } else {
+            for (FREQ freq : activeFrequencies) {
+                dirty |= tickFrequency(freq);
+            }
         }
         if (dirty) {
             markDirty();
         }
+        if (canUnload && activeFrequencies.isEmpty() && ++idleTicks >= UNLOAD_DELAY && dataHandler != null && !dataHandler.isDirty()) {
+            unload();
+        }
+    }
+
+    private boolean tickFrequency(FREQ freq) {
+        if (freq.tick()) {
+            //Reset the frequency's dirty state as we are going to mark the manager as dirty, which will cause it to get saved
+            freq.dirty = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Unloads all the frequencies of this manager until the next time it is accessed. This is only done when no loaded blocks are using the frequencies and all changes
+     * have been saved, so they can just be read from disk again.
+     */
+    private void unload() {
+        for (FREQ freq : frequencies.values()) {
+            //Mark the frequency as invalid so that anything that is still holding a reference to it looks it up again
+            freq.setValid(false);
+        }
+        frequencies.clear();
+        unloaded = true;
     }
 
     public String getName() {
@@ -176,6 +278,8 @@ public class FrequencyManager<FREQ extends Frequency> {
             if (loadedFrequencies != null) {
                 loadedFrequencies.forEach(freq -> frequencies.put(freq.getKey(), freq));
                 ownerUUID = loadedOwner;
+                //Clear the loaded frequencies as we don't need them anymore and don't want to keep them around if the manager unloads
+                loadedFrequencies = null;
             }
         }
 
@@ -196,7 +300,7 @@ public class FrequencyManager<FREQ extends Frequency> {
                 nbtTags.putUUID(NBTConstants.OWNER_UUID, ownerUUID);
             }
             ListTag list = new ListTag();
-            for (FREQ freq : getFrequencies()) {
+            for (FREQ freq : frequencies.values()) {
                 CompoundTag compound = new CompoundTag();
                 freq.write(compound);
                 list.add(compound);
@@ -1,6 +1,8 @@
 package mekanism.common.lib.inventory;
 
+import mekanism.common.base.TagCache;
 import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.WildcardMatcher.CompiledWildcard;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -24,11 +26,12 @@ public interface Finder {
     }
 
     static Finder tag(String tagName) {
-        return stack -> !stack.isEmpty() && stack.getTags().anyMatch(tag -> WildcardMatcher.matches(tagName, tag));
+        return stack -> !stack.isEmpty() && TagCache.getItemsInTag(tagName).contains(stack.getItem());
     }
 
     static Finder modID(String modID) {
-        return stack -> !stack.isEmpty() && WildcardMatcher.matches(modID, MekanismUtils.getModId(stack));
+        CompiledWildcard matcher = WildcardMatcher.compile(modID);
+        return stack -> !stack.isEmpty() && matcher.test(MekanismUtils.getModId(stack));
     }
 
     boolean modifies(ItemStack stack);
@@ -297,17 +297,17 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         }
     }
 
-    @ComputerMethod(nameOverride = "getLength")
+    @ComputerMethod(nameOverride = "getLength", cacheable = true)
     public int length() {
         return bounds.length();
     }
 
-    @ComputerMethod(nameOverride = "getWidth")
+    @ComputerMethod(nameOverride = "getWidth", cacheable = true)
     public int width() {
         return bounds.width();
     }
 
-    @ComputerMethod(nameOverride = "getHeight")
+    @ComputerMethod(nameOverride = "getHeight", cacheable = true)
     public int height() {
         return bounds.height();
     }
@@ -4,6 +4,8 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -19,6 +21,7 @@ import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.collection.DimensionalPositionMap;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -43,7 +46,7 @@ public class TransmitterNetworkRegistry {
     private Object2BooleanMap<Chunk3D> changedTicketChunks = new Object2BooleanOpenHashMap<>();
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
-    private Map<Coord4D, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    private DimensionalPositionMap<Transmitter<?, ?, ?>> newOrphanTransmitters = new DimensionalPositionMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
 
@@ -230,18 +233,18 @@ public class TransmitterNetworkRegistry {
 
     private void assignOrphans() {
         if (!newOrphanTransmitters.isEmpty()) {
-            Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
-            newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+            DimensionalPositionMap<Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
+            newOrphanTransmitters = new DimensionalPositionMap<>();
             if (MekanismAPI.debug) {
                 Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
             }
 
-            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
+            orphanTransmitters.forEachValue(orphanTransmitter -> {
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
                     OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters.getDimension(finder.world.dimension())));
                 }
-            }
+            });
         }
     }
 
@@ -276,7 +279,7 @@ public class TransmitterNetworkRegistry {
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
+        private final LongSet iterated = new LongOpenHashSet();
         private final Deque<BlockPos> queue = new LinkedList<>();
         private final TRANSMITTER startPoint;
         private final Level world;
@@ -287,7 +290,7 @@ public class TransmitterNetworkRegistry {
             transmitterValidator = startPoint.getNewOrphanValidator();
         }
 
-        NETWORK getNetworkFromOrphan(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters) {
+        NETWORK getNetworkFromOrphan(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters) {
             //Calculate the network
             if (queue.peek() != null) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
@@ -319,10 +322,10 @@ public class TransmitterNetworkRegistry {
             return network;
         }
 
-        private void iterate(Map<Coord4D, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
-            if (iterated.add(from)) {
-                Coord4D fromCoord = new Coord4D(from, world);
-                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+        private void iterate(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
+            long fromKey = from.asLong();
+            if (iterated.add(fromKey)) {
+                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromKey);
                 if (transmitter != null) {
                     if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
                         transmitterValidator.isTransmitterCompatible(transmitter)) {
@@ -330,7 +333,7 @@ public class TransmitterNetworkRegistry {
                         transmitter.setOrphan(false);
                         for (Direction direction : EnumUtils.DIRECTIONS) {
                             BlockPos directionPos = from.relative(direction);
-                            if (!iterated.contains(directionPos)) {
+                            if (!iterated.contains(directionPos.asLong())) {
                                 TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
                                 if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
                                     queue.addLast(directionPos);
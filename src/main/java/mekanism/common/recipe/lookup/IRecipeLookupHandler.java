@@ -32,6 +32,16 @@ public interface IRecipeLookupHandler<RECIPE extends MekanismRecipe> extends ICo
     @NotNull
     IMekanismRecipeTypeProvider<RECIPE, ?> getRecipeType();
 
+    /**
+     * Whether the recipe monitor for this handler may stop looking up and processing recipes while it has no recipe or is stalled, until something marks it as changed.
+     *
+     * @return {@code true} if all the inputs, outputs, and anything else the recipe depends on notify the recipe monitor or call {@link #onContentsChanged()} when they
+     * change.
+     */
+    default boolean canRecipeProcessingSleep() {
+        return false;
+    }
+
     /**
      * Returns how many operating ticks were saved for purposes of persisting through saves how far a cached recipe is through processing.
      *
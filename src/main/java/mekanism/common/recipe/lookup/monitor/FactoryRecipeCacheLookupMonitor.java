@@ -20,10 +20,19 @@ public class FactoryRecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> exte
         setSortingNeeded.run();
     }
 
+    /**
+     * Marks that something other than the input of this process, such as a secondary input, changed so that we may have a recipe again, without marking the input as
+     * needing to be sorted.
+     */
+    public void onSecondaryChange() {
+        super.onChange();
+    }
+
     public void updateCachedRecipe(@NotNull RECIPE recipe) {
         cachedRecipe = createNewCachedRecipe(recipe, cacheIndex);
         //Note: While this is probably not strictly needed we clear our cache of knowing we have no recipe
         // so that we can properly re-enter the lookup cycle if needed
         hasNoRecipe = false;
+        wakeUp();
     }
 }
\ No newline at end of file
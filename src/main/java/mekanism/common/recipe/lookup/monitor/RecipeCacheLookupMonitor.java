@@ -5,6 +5,7 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
 import mekanism.api.recipes.cache.ICachedRecipeHolder;
 import mekanism.api.recipes.cache.ItemStackConstantChemicalToItemStackCachedRecipe;
 import mekanism.common.CommonWorldTickHandler;
@@ -18,6 +19,15 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     protected final int cacheIndex;
     protected CachedRecipe<RECIPE> cachedRecipe;
     protected boolean hasNoRecipe;
+    /**
+     * Whether the last time we processed we either didn't have a recipe or were stalled by errors, so we can skip looking up and processing the recipe until something
+     * changes.
+     */
+    private boolean sleeping;
+    /**
+     * Whether we are sleeping because there is no room for our outputs.
+     */
+    private boolean waitingForOutputSpace;
 
     public RecipeCacheLookupMonitor(IRecipeLookupHandler<RECIPE> handler) {
         this(handler, 0);
@@ -41,6 +51,30 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     public void onChange() {
         //Mark that we may have a recipe again
         hasNoRecipe = false;
+        wakeUp();
+    }
+
+    /**
+     * Marks that something that may affect the recipe, such as the contents of the outputs or the installed upgrades, changed so that the recipe should be processed
+     * again.
+     */
+    public void wakeUp() {
+        sleeping = false;
+    }
+
+    /**
+     * @return {@code true} if we don't have a recipe or are stalled, and nothing has changed since we last processed.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * @return {@code true} if we are {@link #isSleeping() sleeping} for any reason other than there being no room for our outputs, as in that case the holder should keep
+     * ticking so that it can empty its outputs.
+     */
+    public boolean isIdle() {
+        return sleeping && !waitingForOutputSpace;
     }
 
     /**
@@ -59,6 +93,13 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
     }
 
     public boolean updateAndProcess() {
+        if (sleeping) {
+            if (!invalidateCache()) {
+                //Nothing changed since we last processed, so we wouldn't be able to do anything anyway
+                return false;
+            }
+            sleeping = false;
+        }
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
@@ -66,8 +107,13 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         }
         if (cachedRecipe != null) {
             cachedRecipe.process();
+            //Note: A stalled recipe didn't perform any operations, so there is nothing that would be different if we processed it again next tick
+            sleeping = cachedRecipe.isStalled() && handler.canRecipeProcessingSleep();
+            waitingForOutputSpace = sleeping && cachedRecipe.hasError(RecipeError.NOT_ENOUGH_OUTPUT_SPACE);
             return true;
         }
+        sleeping = hasNoRecipe && handler.canRecipeProcessingSleep();
+        waitingForOutputSpace = false;
         return false;
     }
 
@@ -4,6 +4,7 @@ import mekanism.api.heat.HeatAPI;
 import mekanism.api.tier.BaseTier;
 import mekanism.api.tier.ITier;
 import mekanism.common.config.value.CachedDoubleValue;
+import mekanism.common.config.value.CachedValue.IConfigValueInvalidationListener;
 import mekanism.common.lib.Color;
 import mekanism.common.util.EnumUtils;
 
@@ -81,4 +82,15 @@ public enum ConductorTier implements ITier {
         this.capacityReference = capacityReference;
         this.insulationReference = insulationReference;
     }
+
+    /**
+     * Adds a listener that gets called whenever the conduction, heat capacity, or insulation of this tier change.
+     */
+    public void addConfigInvalidationListener(IConfigValueInvalidationListener listener) {
+        if (conductionReference != null) {
+            conductionReference.addInvalidationListener(listener);
+            capacityReference.addInvalidationListener(listener);
+            insulationReference.addInvalidationListener(listener);
+        }
+    }
 }
\ No newline at end of file
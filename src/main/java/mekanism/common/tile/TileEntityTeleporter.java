@@ -50,9 +50,12 @@ import mekanism.common.util.EnumUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.SharedConstants;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Axis;
+import net.minecraft.core.Vec3i;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.protocol.game.ClientboundMoveVehiclePacket;
@@ -83,6 +86,25 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     private static final TeleportInfo NO_FRAME = new TeleportInfo((byte) 2, null, Collections.emptyList());
     private static final TeleportInfo NO_LINK = new TeleportInfo((byte) 3, null, Collections.emptyList());
     private static final TeleportInfo NOT_ENOUGH_ENERGY = new TeleportInfo((byte) 4, null, Collections.emptyList());
+    /**
+     * Offsets from a frame block to every position a teleporter that may have that block as part of its frame can be at.
+     */
+    private static final List<BlockPos> TELEPORTER_OFFSETS = Util.make(() -> {
+        Set<BlockPos> offsets = new HashSet<>();
+        for (Direction direction : EnumUtils.DIRECTIONS) {
+            for (boolean rotated : new boolean[]{false, true}) {
+                //Note: These mirror the blocks checked by hasFrame, negated as we want the offsets of the teleporter from the frame
+                Vec3i alternating = getAlternatingOffset(direction, rotated);
+                for (int distance = 0; distance <= 3; distance++) {
+                    BlockPos center = BlockPos.ZERO.relative(direction, -distance);
+                    offsets.add(center.offset(alternating));
+                    offsets.add(center.subtract(alternating));
+                }
+                offsets.add(BlockPos.ZERO.relative(direction, -3));
+            }
+        }
+        return List.copyOf(offsets);
+    });
 
     public final Set<UUID> didTeleport = new ObjectOpenHashSet<>();
     private AABB teleportBounds;
@@ -91,6 +113,11 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     @Nullable
     private Direction frameDirection;
     private boolean frameRotated;
+    /**
+     * Whether a block that may be part of our frame has changed since we last checked the frame.
+     */
+    private boolean frameChanged = true;
+    private long nextFrameCheck;
     private EnumColor color;
 
     /**
@@ -191,11 +218,15 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
     }
 
     private void cleanTeleportCache() {
-        List<UUID> inTeleporter = level.getEntitiesOfClass(Entity.class, teleportBounds).stream().map(Entity::getUUID).toList();
+        List<Entity> inTeleporter = level.getEntitiesOfClass(Entity.class, teleportBounds);
         if (inTeleporter.isEmpty()) {
             didTeleport.clear();
         } else {
-            didTeleport.removeIf(id -> !inTeleporter.contains(id));
+            Set<UUID> inTeleporterIds = new ObjectOpenHashSet<>(inTeleporter.size());
+            for (Entity entity : inTeleporter) {
+                inTeleporterIds.add(entity.getUUID());
+            }
+            didTeleport.retainAll(inTeleporterIds);
         }
     }
 
@@ -215,13 +246,8 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
      * @apiNote Only call on server
      */
     private TeleportInfo canTeleport(@Nullable TeleporterFrequency frequency) {
-        Direction direction = getFrameDirection();
-        if (direction == null) {
-            frameDirection = null;
+        if (getCachedFrameDirection() == null) {
             return NO_FRAME;
-        } else if (frameDirection != direction) {
-            frameDirection = direction;
-            resetBounds();
         }
         Coord4D closestCoords = getClosest(frequency);
         if (closestCoords == null || level == null) {
@@ -242,6 +268,10 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
             }
         }
         List<Entity> toTeleport = getToTeleport(sameDimension);
+        if (toTeleport.isEmpty()) {
+            //Nothing to teleport so there is no energy cost to check
+            return new TeleportInfo((byte) 1, closestCoords, toTeleport);
+        }
         FloatingLong sum = FloatingLong.ZERO;
         for (Entity entity : toTeleport) {
             sum = sum.plusEqual(calculateEnergyCost(entity, targetWorld, closestCoords));
@@ -495,6 +525,42 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
         }
     }
 
+    /**
+     * Marks any teleporters that may have a frame containing the given position as needing to check their frame again.
+     *
+     * @apiNote Only call on the server.
+     */
+    public static void onFrameChanged(Level level, BlockPos pos) {
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectArrayMap<>();
+        for (BlockPos offset : TELEPORTER_OFFSETS) {
+            TileEntityTeleporter teleporter = WorldUtils.getTileEntity(TileEntityTeleporter.class, level, chunkMap, pos.offset(offset));
+            if (teleporter != null) {
+                teleporter.frameChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Gets the direction of our frame, only checking the blocks in the world again if a block that may be part of the frame changed.
+     *
+     * @apiNote Only call on the server.
+     */
+    @Nullable
+    private Direction getCachedFrameDirection() {
+        long gameTime = level.getGameTime();
+        //Note: If we don't have a frame we also periodically check again, in case part of it is in a chunk that wasn't loaded when we last checked
+        if (frameChanged || (frameDirection == null && gameTime >= nextFrameCheck)) {
+            frameChanged = false;
+            nextFrameCheck = gameTime + SharedConstants.TICKS_PER_SECOND;
+            Direction direction = getFrameDirection();
+            if (frameDirection != direction) {
+                frameDirection = direction;
+                resetBounds();
+            }
+        }
+        return frameDirection;
+    }
+
     /**
      * Checks in what direction there is a frame.
      *
@@ -529,20 +595,10 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
      * @return whether the frame exists.
      */
     private boolean hasFrame(Long2ObjectMap<ChunkAccess> chunkMap, Object2BooleanMap<BlockPos> cachedIsFrame, Direction direction, boolean rotated) {
-        int alternatingX = 0;
-        int alternatingY = 0;
-        int alternatingZ = 0;
-        if (rotated) {
-            if (direction.getAxis() == Axis.Z) {
-                alternatingX = 1;
-            } else {
-                alternatingZ = 1;
-            }
-        } else if (direction.getAxis() == Axis.Y) {
-            alternatingX = 1;
-        } else {
-            alternatingY = 1;
-        }
+        Vec3i alternating = getAlternatingOffset(direction, rotated);
+        int alternatingX = alternating.getX();
+        int alternatingY = alternating.getY();
+        int alternatingZ = alternating.getZ();
         int xComponent = direction.getStepX();
         int yComponent = direction.getStepY();
         int zComponent = direction.getStepZ();
@@ -555,6 +611,16 @@ public class TileEntityTeleporter extends TileEntityMekanism implements IChunkLo
                isFramePair(chunkMap, cachedIsFrame, 3 * xComponent, alternatingX, 3 * yComponent, alternatingY, 3 * zComponent, alternatingZ);
     }
 
+    /**
+     * Gets the axis along which the frame extends to either side of the teleporter, for a frame in the given direction.
+     */
+    private static Vec3i getAlternatingOffset(Direction direction, boolean rotated) {
+        if (rotated) {
+            return direction.getAxis() == Axis.Z ? Direction.EAST.getNormal() : Direction.SOUTH.getNormal();
+        }
+        return direction.getAxis() == Axis.Y ? Direction.EAST.getNormal() : Direction.UP.getNormal();
+    }
+
     private boolean isFramePair(Long2ObjectMap<ChunkAccess> chunkMap, Object2BooleanMap<BlockPos> cachedIsFrame, int xOffset, int alternatingX, int yOffset,
           int alternatingY, int zOffset, int alternatingZ) {
         return isFrame(chunkMap, cachedIsFrame, xOffset - alternatingX, yOffset - alternatingY, zOffset - alternatingZ) &&
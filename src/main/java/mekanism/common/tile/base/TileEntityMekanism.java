@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import mekanism.api.Action;
@@ -155,8 +156,20 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
      * A timer used to send packets to clients.
      */
     public int ticker;
+    /**
+     * How many ticks in a row the {@link TileTickScheduler} has deferred ticking this tile.
+     */
+    int deferredTicks;
     private final List<ICapabilityHandlerManager<?>> capabilityHandlerManagers = new ArrayList<>();
     private final List<ITileComponent> components = new ArrayList<>();
+    /**
+     * Subscriptions computers have to values of this tile, that get evaluated each tick.
+     */
+    private final List<ComputerSubscriptions> computerSubscriptions = new ArrayList<>();
+    /**
+     * Telemetry of attached computers, that gets published each tick. This is copy on write as computers may attach and detach from other threads.
+     */
+    private final CopyOnWriteArrayList<ComputerTelemetry> computerTelemetry = new CopyOnWriteArrayList<>();
 
     protected final IBlockProvider blockProvider;
 
@@ -546,13 +559,11 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
-        tile.frequencyComponent.tickServer();
-        if (tile.supportsUpgrades()) {
-            tile.upgradeComponent.tickServer();
-        }
-        if (tile.hasChunkloader) {
-            ((IChunkLoader) tile).getChunkLoader().tickServer();
-        }
+        TileTickScheduler.tickServer(level, pos, state, tile);
+    }
+
+    static void tickServerInternal(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        tickServerComponents(tile);
         if (tile.isActivatable()) {
             if (tile.updateDelay > 0) {
                 tile.updateDelay--;
@@ -563,6 +574,17 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             }
         }
         tile.onUpdateServer();
+        if (!tile.computerSubscriptions.isEmpty()) {
+            tile.computerSubscriptions.removeIf(ComputerSubscriptions::isEmpty);
+            for (ComputerSubscriptions subscriptions : tile.computerSubscriptions) {
+                subscriptions.evaluate();
+            }
+        }
+        if (!tile.computerTelemetry.isEmpty()) {
+            for (ComputerTelemetry telemetry : tile.computerTelemetry) {
+                telemetry.publish();
+            }
+        }
         tile.updateRadiationScale();
         //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
         if (tile.persists(SubstanceType.HEAT)) {
@@ -632,6 +654,39 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     protected void onUpdateServer() {
     }
 
+    /**
+     * Called instead of {@link #tickServerInternal(Level, BlockPos, BlockState, TileEntityMekanism)} when the {@link TileTickScheduler} defers ticking this tile.
+     */
+    static void tickServerDeferred(TileEntityMekanism tile) {
+        tickServerComponents(tile);
+        tile.onDeferredUpdateServer();
+    }
+
+    private static void tickServerComponents(TileEntityMekanism tile) {
+        tile.frequencyComponent.tickServer();
+        if (tile.supportsUpgrades()) {
+            tile.upgradeComponent.tickServer();
+        }
+        if (tile.hasChunkloader) {
+            ((IChunkLoader) tile).getChunkLoader().tickServer();
+        }
+    }
+
+    /**
+     * Called on the server instead of {@link #onUpdateServer()} on ticks that the {@link TileTickScheduler} defers. Tiles should use this for anything that has to keep
+     * running while they are idle, such as ejecting their outputs, as an idle tile may be waiting for its outputs to be emptied.
+     */
+    protected void onDeferredUpdateServer() {
+    }
+
+    /**
+     * @return {@code true} if this tile is currently idle, so if the tile tick budget has been used up for this tick, ticking it can be delayed until a later tick.
+     */
+    protected boolean canDeferTick() {
+        //Note: We don't defer tiles set to pulse as they may miss the pulse
+        return supportsRedstone() && getControlType() != RedstoneControl.PULSE && !MekanismUtils.canFunction(this);
+    }
+
     @Override
     @Deprecated
     public void setBlockState(@NotNull BlockState newState) {
@@ -809,6 +864,9 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
             updatePower();
+            for (ITileComponent component : components) {
+                component.neighborChanged(neighborPos);
+            }
         }
     }
 
@@ -833,7 +891,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     //Methods for implementing ITileDirectional
     @NotNull
     @Override
-    @ComputerMethod(restriction = MethodRestriction.DIRECTIONAL)
+    @ComputerMethod(restriction = MethodRestriction.DIRECTIONAL, cacheable = true)
     public final Direction getDirection() {
         if (isDirectional()) {
             if (cachedDirection != null) {
@@ -870,7 +928,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     //Methods for implementing ITileRedstone
     @Override
-    @ComputerMethod(nameOverride = "getRedstoneMode", restriction = MethodRestriction.REDSTONE_CONTROL)
+    @ComputerMethod(nameOverride = "getRedstoneMode", restriction = MethodRestriction.REDSTONE_CONTROL, cacheable = true)
     public RedstoneControl getControlType() {
         return controlType;
     }
@@ -936,7 +994,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     @Override
-    @ComputerMethod(nameOverride = "getComparatorLevel", restriction = MethodRestriction.COMPARATOR)
+    @ComputerMethod(nameOverride = "getComparatorLevel", restriction = MethodRestriction.COMPARATOR, cacheable = true)
     public int getCurrentRedstoneLevel() {
         return currentRedstoneLevel;
     }
@@ -1284,6 +1342,25 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return "";
     }
 
+    @Override
+    public boolean addComputerSubscriptions(ComputerSubscriptions subscriptions) {
+        if (!computerSubscriptions.contains(subscriptions)) {
+            computerSubscriptions.add(subscriptions);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addComputerTelemetry(ComputerTelemetry telemetry) {
+        computerTelemetry.addIfAbsent(telemetry);
+        return true;
+    }
+
+    @Override
+    public void removeComputerTelemetry(ComputerTelemetry telemetry) {
+        computerTelemetry.remove(telemetry);
+    }
+
     public void validateSecurityIsPublic() throws ComputerException {
         if (hasSecurity() && ISecurityUtils.INSTANCE.getSecurityMode(this, isRemote()) != SecurityMode.PUBLIC) {
             throw new ComputerException("Setter not available due to machine security not being public.");
@@ -1305,17 +1382,17 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     // where being able to get a specific container's stored energy would be useful to their program. Alternatively we could
     // probably make use of our synthetic computer method wrapper to just add extra methods so then have it basically create
     // getEnergy, getEnergyFE for us with us only having to define getEnergy
-    @ComputerMethod(nameOverride = "getEnergy", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergy", restriction = MethodRestriction.ENERGY, cacheable = true)
     FloatingLong getTotalEnergy() {
         return getTotalEnergy(IEnergyContainer::getEnergy);
     }
 
-    @ComputerMethod(nameOverride = "getMaxEnergy", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getMaxEnergy", restriction = MethodRestriction.ENERGY, cacheable = true)
     FloatingLong getTotalMaxEnergy() {
         return getTotalEnergy(IEnergyContainer::getMaxEnergy);
     }
 
-    @ComputerMethod(nameOverride = "getEnergyNeeded", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergyNeeded", restriction = MethodRestriction.ENERGY, cacheable = true)
     FloatingLong getTotalEnergyNeeded() {
         return getTotalEnergy(IEnergyContainer::getNeeded);
     }
@@ -1329,7 +1406,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         return total;
     }
 
-    @ComputerMethod(nameOverride = "getEnergyFilledPercentage", restriction = MethodRestriction.ENERGY)
+    @ComputerMethod(nameOverride = "getEnergyFilledPercentage", restriction = MethodRestriction.ENERGY, cacheable = true)
     double getTotalEnergyFilledPercentage() {
         FloatingLong stored = FloatingLong.ZERO;
         FloatingLong max = FloatingLong.ZERO;
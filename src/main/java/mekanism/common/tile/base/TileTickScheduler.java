@@ -0,0 +1,204 @@
+package mekanism.common.tile.base;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of how long Mekanism tiles take to tick on the server, and if a tile tick budget is configured, defers ticking idle tiles to later ticks once the
+ * budget for the current server tick has been used up. Deferred tiles still tick their components and eject their outputs, see
+ * {@link TileEntityMekanism#onDeferredUpdateServer()}.
+ */
+@NothingNullByDefault
+public class TileTickScheduler {
+
+    private static final Map<BlockEntityType<?>, TickCost> costsByType = new Reference2ObjectOpenHashMap<>();
+    private static final Map<GlobalPos, TickCost> costsByPosition = new Object2ObjectOpenHashMap<>();
+    private static boolean profiling;
+    private static long profilingStarted;
+    private static long spentThisTick;
+    private static int deferredLastTick;
+    private static int deferredThisTick;
+
+    private TileTickScheduler() {
+    }
+
+    /**
+     * Called at the start of each server tick to reset the budget.
+     */
+    public static void onServerTickStart() {
+        spentThisTick = 0;
+        deferredLastTick = deferredThisTick;
+        deferredThisTick = 0;
+    }
+
+    static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
+        long budget = getBudget();
+        if (!profiling && budget == 0) {
+            tile.deferredTicks = 0;
+            TileEntityMekanism.tickServerInternal(level, pos, state, tile);
+            return;
+        }
+        if (budget > 0 && spentThisTick >= budget && tile.deferredTicks < MekanismConfig.general.tileTickMaxDeferral.get() && tile.canDeferTick()) {
+            //We are out of budget for this tick, and the tile is idle and hasn't been waiting too long, so skip ticking it until a later tick
+            // but still tick the parts of it that have to keep running, such as its components and ejecting its outputs
+            TileEntityMekanism.tickServerDeferred(tile);
+            tile.deferredTicks++;
+            deferredThisTick++;
+            if (profiling) {
+                getCost(level, tile, pos).deferred++;
+            }
+            return;
+        }
+        tile.deferredTicks = 0;
+        long start = System.nanoTime();
+        TileEntityMekanism.tickServerInternal(level, pos, state, tile);
+        long time = System.nanoTime() - start;
+        spentThisTick += time;
+        if (profiling) {
+            costsByType.computeIfAbsent(tile.getType(), type -> new TickCost(tile, null)).record(time);
+            getCost(level, tile, pos).record(time);
+        }
+    }
+
+    private static TickCost getCost(Level level, TileEntityMekanism tile, BlockPos pos) {
+        return costsByPosition.computeIfAbsent(GlobalPos.of(level.dimension(), pos), p -> new TickCost(tile, p));
+    }
+
+    /**
+     * @return The configured tile tick budget in nanoseconds, or zero if there is no budget.
+     */
+    private static long getBudget() {
+        return MekanismConfig.general.tileTickBudget.get() * 1_000L;
+    }
+
+    public static boolean isProfiling() {
+        return profiling;
+    }
+
+    public static void startProfiling() {
+        reset();
+        profiling = true;
+        profilingStarted = System.nanoTime();
+    }
+
+    public static void stopProfiling() {
+        profiling = false;
+    }
+
+    /**
+     * @return How many seconds profiling has been running for.
+     */
+    public static double getProfilingSeconds() {
+        return profilingStarted == 0 ? 0 : (System.nanoTime() - profilingStarted) / 1_000_000_000D;
+    }
+
+    public static int getDeferredLastTick() {
+        return deferredLastTick;
+    }
+
+    public static List<TickCost> getTopTypes(TickCostSort sort, int count) {
+        return getTop(costsByType, sort, count);
+    }
+
+    public static List<TickCost> getTopPositions(TickCostSort sort, int count) {
+        return getTop(costsByPosition, sort, count);
+    }
+
+    private static List<TickCost> getTop(Map<?, TickCost> costs, TickCostSort sort, int count) {
+        return costs.values().stream()
+              .filter(cost -> cost.ticks > 0)
+              .sorted(sort.comparator)
+              .limit(count)
+              .toList();
+    }
+
+    public static void reset() {
+        profiling = false;
+        profilingStarted = 0;
+        costsByType.clear();
+        costsByPosition.clear();
+        spentThisTick = 0;
+        deferredThisTick = 0;
+        deferredLastTick = 0;
+    }
+
+    public static class TickCost {
+
+        private final BlockState state;
+        @Nullable
+        private final GlobalPos position;
+        private long ticks;
+        private long totalNanos;
+        private long maxNanos;
+        private long deferred;
+
+        private TickCost(TileEntityMekanism tile, @Nullable GlobalPos position) {
+            this.state = tile.getBlockState();
+            this.position = position;
+        }
+
+        private void record(long nanos) {
+            ticks++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+
+        public BlockState getState() {
+            return state;
+        }
+
+        /**
+         * @return The position of the tile, or {@code null} if this is the cost for a tile type.
+         */
+        @Nullable
+        public GlobalPos getPosition() {
+            return position;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        public long getDeferred() {
+            return deferred;
+        }
+
+        public double getMeanMicros() {
+            return ticks == 0 ? 0 : totalNanos / 1_000D / ticks;
+        }
+
+        public double getMaxMicros() {
+            return maxNanos / 1_000D;
+        }
+
+        public double getTotalMillis() {
+            return totalNanos / 1_000_000D;
+        }
+    }
+
+    public enum TickCostSort {
+        MEAN(TickCost::getMeanMicros),
+        MAX(TickCost::getMaxMicros),
+        TOTAL(TickCost::getTotalMillis);
+
+        private final Comparator<TickCost> comparator;
+
+        TickCostSort(ToDoubleFunction<TickCost> value) {
+            this.comparator = Comparator.comparingDouble(value).reversed();
+        }
+    }
+}
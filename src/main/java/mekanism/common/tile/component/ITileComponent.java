@@ -1,6 +1,7 @@
 package mekanism.common.tile.component;
 
 import mekanism.common.inventory.container.MekanismContainer;
+import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 
 public interface ITileComponent {
@@ -21,6 +22,12 @@ public interface ITileComponent {
     default void removed() {
     }
 
+    /**
+     * Called on the server when a neighboring block changes.
+     */
+    default void neighborChanged(BlockPos neighborPos) {
+    }
+
     default void trackForMainContainer(MekanismContainer container) {
     }
 
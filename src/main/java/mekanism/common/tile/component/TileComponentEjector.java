@@ -3,7 +3,7 @@ package mekanism.common.tile.component;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,6 +44,7 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -66,6 +67,10 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    /**
+     * Cached data about which containers output to which sides for each transmission type, recalculated when the config or direction changes.
+     */
+    private final Map<TransmissionType, EjectPlan> ejectPlans = new EnumMap<>(TransmissionType.class);
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -133,57 +138,73 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * Wakes up any outputs that are currently backing off, as the neighbor may now be able to accept what we have to eject.
+     */
+    @Override
+    public void neighborChanged(BlockPos neighborPos) {
+        for (EjectPlan plan : ejectPlans.values()) {
+            for (EjectTarget target : plan.targets) {
+                target.wake();
+            }
+        }
+    }
+
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
     private void eject(TransmissionType type, ConfigInfo info) {
+        EjectPlan plan = ejectPlans.get(type);
+        Direction facing = tile.getDirection();
+        if (plan == null || plan.modificationCount != info.getModificationCount() || plan.facing != facing) {
+            //If the config changed since we last calculated what to output where, recalculate it
+            plan = createEjectPlan(type, info, facing);
+            ejectPlans.put(type, plan);
+        }
+        for (EjectTarget target : plan.targets) {
+            if (target.isEmpty() || (target.container instanceof IChemicalTank<?, ?> tank && canTankEject != null && !canTankEject.test(tank))) {
+                //If there is nothing to eject, reset our backoff so that once we have something to eject we try to do so immediately
+                target.wake();
+            } else if (target.sleepTicks > 0) {
+                //Everything rejected what we tried to output last time; wait a bit before trying again
+                target.sleepTicks--;
+            } else if (target.emit(type)) {
+                target.wake();
+            } else {
+                target.backOff();
+            }
+        }
+    }
+
+    private EjectPlan createEjectPlan(TransmissionType type, ConfigInfo info, Direction facing) {
         //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;
+        Map<Object, Set<Direction>> outputData = new LinkedHashMap<>();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
                 if (slotInfo != null) {
                     Set<Direction> outputSides = info.getSidesForData(dataType);
                     if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData
-                            outputData = new HashMap<>();
-                        }
+                        List<?> containers = List.of();
                         if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
-                            for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
+                            containers = chemicalSlotInfo.getTanks();
                         } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
-                            for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                if (!tank.isEmpty()) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
+                            containers = fluidSlotInfo.getTanks();
                         } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
-                            for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                if (!container.isEmpty()) {
-                                    outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
+                            containers = energySlotInfo.getContainers();
+                        }
+                        for (Object container : containers) {
+                            outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
                         }
                     }
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                if (type.isChemical()) {
-                    ChemicalUtil.emit(entry.getValue(), (IChemicalTank<?, ?>) entry.getKey(), tile, chemicalEjectRate.getAsLong());
-                } else if (type == TransmissionType.FLUID) {
-                    FluidUtils.emit(entry.getValue(), (IExtendedFluidTank) entry.getKey(), tile, fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    CableUtils.emit(entry.getValue(), container, tile, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
-                }
-            }
+        List<EjectTarget> targets = new ArrayList<>(outputData.size());
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            targets.add(new EjectTarget(entry.getKey(), entry.getValue()));
         }
+        return new EjectPlan(info.getModificationCount(), facing, targets);
     }
 
     /**
@@ -406,4 +427,57 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             return side;
         }
     }
+
+    private record EjectPlan(int modificationCount, Direction facing, List<EjectTarget> targets) {
+    }
+
+    private class EjectTarget {
+
+        /**
+         * Maximum number of ticks to wait between attempts to eject when all the targets are rejecting everything we try to send them.
+         */
+        private static final int MAX_BACKOFF = 32;
+
+        private final Object container;
+        private final Set<Direction> sides;
+        private int backoff;
+        private int sleepTicks;
+
+        private EjectTarget(Object container, Set<Direction> sides) {
+            this.container = container;
+            this.sides = sides;
+        }
+
+        private boolean isEmpty() {
+            if (container instanceof IChemicalTank<?, ?> tank) {
+                return tank.isEmpty();
+            } else if (container instanceof IExtendedFluidTank tank) {
+                return tank.isEmpty();
+            }
+            return ((IEnergyContainer) container).isEmpty();
+        }
+
+        /**
+         * @return {@code true} if anything was ejected.
+         */
+        private boolean emit(TransmissionType type) {
+            if (type.isChemical()) {
+                return ChemicalUtil.emit(sides, (IChemicalTank<?, ?>) container, tile, chemicalEjectRate.getAsLong()) > 0;
+            } else if (type == TransmissionType.FLUID) {
+                return FluidUtils.emit(sides, (IExtendedFluidTank) container, tile, fluidEjectRate.getAsInt()) > 0;
+            }
+            IEnergyContainer energyContainer = (IEnergyContainer) container;
+            return !CableUtils.emit(sides, energyContainer, tile, energyEjectRate == null ? energyContainer.getMaxEnergy() : energyEjectRate.get()).isZero();
+        }
+
+        private void backOff() {
+            backoff = backoff == 0 ? 1 : Math.min(2 * backoff, MAX_BACKOFF);
+            sleepTicks = backoff;
+        }
+
+        private void wake() {
+            backoff = 0;
+            sleepTicks = 0;
+        }
+    }
 }
@@ -35,6 +35,10 @@ public class ConfigInfo {
     private final Map<Object, List<DataType>> containerTypeMapping;
     //Not final so that it can be lazily initialized
     private Set<RelativeSide> disabledSides;
+    /**
+     * Incremented whenever the side configuration or slot info changes so that things caching data based on the config can tell when it needs to be recalculated.
+     */
+    private int modificationCount;
 
     public ConfigInfo(@NotNull Supplier<Direction> facingSupplier) {
         this.facingSupplier = facingSupplier;
@@ -72,6 +76,7 @@ public class ConfigInfo {
             disabledSides.add(side);
             sideConfig.put(side, DataType.NONE);
         }
+        modificationCount++;
     }
 
     public boolean isSideEnabled(@NotNull RelativeSide side) {
@@ -92,6 +97,7 @@ public class ConfigInfo {
                 sideConfig.put(side, dataType);
             }
         }
+        modificationCount++;
     }
 
     @NotNull
@@ -119,6 +125,7 @@ public class ConfigInfo {
 
     public void addSlotInfo(@NotNull DataType dataType, @NotNull ISlotInfo info) {
         slotInfo.put(dataType, info);
+        modificationCount++;
         // set up mapping
         if (info instanceof ChemicalSlotInfo<?, ?, ?> slotInfo) {
             for (IChemicalTank<?, ?> tank : slotInfo.getTanks()) {
@@ -154,6 +161,13 @@ public class ConfigInfo {
         }
     }
 
+    /**
+     * @return A counter that changes whenever the side configuration or slot info of this config changes.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     public Set<Direction> getSidesForData(@NotNull DataType dataType) {
         return getSides(type -> type == dataType);
     }
@@ -192,6 +206,7 @@ public class ConfigInfo {
             Set<DataType> supportedDataTypes = getSupportedDataTypes();
             DataType newType = current.getNext(supportedDataTypes::contains);
             sideConfig.put(relativeSide, newType);
+            modificationCount++;
             return newType;
         }
         return current;
@@ -207,6 +222,7 @@ public class ConfigInfo {
             Set<DataType> supportedDataTypes = getSupportedDataTypes();
             DataType newType = current.getPrevious(supportedDataTypes::contains);
             sideConfig.put(relativeSide, newType);
+            modificationCount++;
             return newType;
         }
         return current;
@@ -2,10 +2,13 @@ package mekanism.common.tile.factory;
 
 import it.unimi.dsi.fastutil.ints.IntArraySet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -101,6 +104,35 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * Whether all input slots need to be resorted, rather than just the groups of the items in the input slots that have changed since the last sort.
+     */
+    private boolean fullSortNeeded = true;
+    /**
+     * Whether the contents of an output slot have changed since the last sort, which may change what items any empty input slots are valid for.
+     */
+    private boolean outputsChanged;
+    /**
+     * Which processes have had their input change since the last sort.
+     *
+     * @implNote Initialized in {@link #presetVariables()} as it is needed for creating the recipe cache lookup monitors.
+     */
+    private boolean[] inputsChanged;
+    /**
+     * The recipe each process had the last time its cached recipe changed, so that we can tell when a change to a secondary input caused a process to use a different
+     * recipe for the same input.
+     *
+     * @implNote Initialized in {@link #presetVariables()} as it is sized based on the tier.
+     */
+    private MekanismRecipe[] lastRecipes;
+    /**
+     * Cache of the minimum amount of an item that should be in each slot based on the amount required by the recipe for that item. Invalidated when recipes reload or
+     * any process starts using a different recipe, as that may change how much of the item is needed.
+     */
+    private final Object2IntMap<HashedItem> minPerSlotCache = new Object2IntOpenHashMap<>();
+    //Note: Reused between sorts to avoid allocating a new set each time
+    private final Set<HashedItem> changedItems = new HashSet<>();
+    private int sortedProcesses;
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -160,9 +192,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected IContentsListener markAllMonitorsChanged(IContentsListener listener) {
         return () -> {
             listener.onContentsChanged();
-            //Note: Updating sorting is handled by the onChange calls
+            //Note: Secondary inputs only affect sorting if they make a process use a different recipe, which is handled by onCachedRecipeChanged,
+            // so we don't mark the inputs as needing to be resorted here
             for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
-                cacheLookupMonitor.onChange();
+                cacheLookupMonitor.onSecondaryChange();
             }
         };
     }
@@ -171,10 +204,16 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
+        inputsChanged = new boolean[tier.processes];
+        lastRecipes = new MekanismRecipe[tier.processes];
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int process = i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> {
+                //Mark that the input of this process changed so that we only have to rebalance the item that is in it
+                inputsChanged[process] = true;
+                sortingNeeded = true;
+            });
         }
     }
 
@@ -192,7 +231,8 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         InventorySlotHelper builder = InventorySlotHelper.forSideWithConfig(this::getDirection, this::getConfig);
         addSlots(builder, listener, () -> {
             listener.onContentsChanged();
-            //Mark sorting as being needed again
+            //Mark sorting as being needed again, as empty slots may now be valid targets for different items
+            outputsChanged = true;
             sortingNeeded = true;
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
@@ -213,12 +253,54 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return type;
     }
 
+    @Override
+    protected boolean canDeferTick() {
+        if (super.canDeferTick()) {
+            return true;
+        }
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            if (!cacheLookupMonitor.isIdle()) {
+                return false;
+            }
+        }
+        //Only defer if all the processes are idle
+        return true;
+    }
+
+    @Override
+    public boolean canRecipeProcessingSleep() {
+        return true;
+    }
+
+    private void wakeUpProcesses() {
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.wakeUp();
+        }
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Outputs and energy only mark the tile as changed rather than notifying the recipe caches, but they may let a stalled recipe continue
+        wakeUpProcesses();
+    }
+
     @Override
     protected void onUpdateServer() {
         super.onUpdateServer();
+        if (!playersUsing.isEmpty()) {
+            //Keep processing while the gui is open so that the displayed recipe errors get rechecked
+            wakeUpProcesses();
+        }
         energySlot.fillContainerOrConvert();
 
         handleSecondaryFuel();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //If the recipe cache is invalid, our cached data about how much is needed per slot may be as well
+            minPerSlotCache.clear();
+            fullSortNeeded = true;
+        }
+        sortedProcesses = 0;
         if (sortingNeeded && isSorting()) {
             //If sorting is needed, and we have sorting enabled mark
             // sorting as no longer needed and sort the inventory
@@ -357,11 +439,38 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         markForSave();
     }
 
+    @Override
+    public void onCachedRecipeChanged(@Nullable CachedRecipe<RECIPE> cachedRecipe, int cacheIndex) {
+        IRecipeLookupHandler.super.onCachedRecipeChanged(cachedRecipe, cacheIndex);
+        if (cachedRecipe != null) {
+            RECIPE recipe = cachedRecipe.getRecipe();
+            MekanismRecipe lastRecipe = lastRecipes[cacheIndex];
+            lastRecipes[cacheIndex] = recipe;
+            if (lastRecipe != null && lastRecipe != recipe) {
+                //A different recipe may need a different amount of the input per operation, so forget how much is needed and resort everything
+                invalidateSorting();
+            }
+        }
+    }
+
+    private void invalidateSorting() {
+        minPerSlotCache.clear();
+        fullSortNeeded = true;
+        sortingNeeded = true;
+    }
+
     @ComputerMethod(nameOverride = "isAutoSortEnabled")
     public boolean isSorting() {
         return sorting;
     }
 
+    /**
+     * @return How many processes had their inputs redistributed by sorting this tick, including empty processes that were given items.
+     */
+    public int getSortedProcesses() {
+        return sortedProcesses;
+    }
+
     @NotNull
     @ComputerMethod(nameOverride = "getEnergyUsage", methodDescription = ComputerConstants.DESCRIPTION_GET_ENERGY_USAGE)
     public FloatingLong getLastUsage() {
@@ -416,6 +525,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         if (upgrade == Upgrade.SPEED) {
             ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
         }
+        wakeUpProcesses();
     }
 
     @NotNull
@@ -518,6 +628,35 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     //End methods IComputerTile
 
     private void sortInventory() {
+        boolean fullSort = fullSortNeeded;
+        changedItems.clear();
+        if (!fullSort) {
+            boolean hasEmpty = false;
+            for (ProcessInfo processInfo : processInfoSlots) {
+                IInventorySlot inputSlot = processInfo.inputSlot();
+                if (inputSlot.isEmpty()) {
+                    if (inputsChanged[processInfo.process()]) {
+                        //If a slot became empty, other items may want to be distributed into it, so we need to resort everything
+                        fullSort = true;
+                        break;
+                    }
+                    hasEmpty = true;
+                } else if (inputsChanged[processInfo.process()]) {
+                    changedItems.add(HashedItem.raw(inputSlot.getStack()));
+                }
+            }
+            if (outputsChanged && hasEmpty) {
+                //If any outputs changed and we have empty slots, the items the empty slots are valid for may have changed
+                fullSort = true;
+            }
+        }
+        fullSortNeeded = false;
+        outputsChanged = false;
+        Arrays.fill(inputsChanged, false);
+        if (!fullSort && changedItems.isEmpty()) {
+            //Nothing that would affect the distribution changed, just exit
+            return;
+        }
         Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
         for (ProcessInfo processInfo : processInfoSlots) {
@@ -527,18 +666,29 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             } else {
                 ItemStack inputStack = inputSlot.getStack();
                 HashedItem item = HashedItem.raw(inputStack);
+                if (!fullSort && !changedItems.contains(item)) {
+                    //If we are only rebalancing the items that changed, and this isn't one of them, skip it
+                    // as the distribution of it can't have changed since the last time we sorted
+                    continue;
+                }
                 RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
                 recipeProcessInfo.processes.add(processInfo);
                 recipeProcessInfo.totalCount += inputStack.getCount();
-                if (recipeProcessInfo.lazyMinPerSlot == null && !CommonWorldTickHandler.flushTagAndRecipeCaches) {
-                    //If we don't have a lazily initialized min per slot calculation set for it yet
-                    // and our cache is not invalid/out of date due to a reload
-                    CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
-                    if (isCachedRecipeValid(cachedRecipe, inputStack)) {
-                        // And our current process has a cached recipe then set the lazily initialized per slot value
-                        // Note: If something goes wrong, and we end up with zero as how much we need as an input
-                        // we just bump the value up to one to make sure we properly handle it
-                        recipeProcessInfo.lazyMinPerSlot = () -> Math.max(1, getNeededInput(cachedRecipe.getRecipe(), inputStack));
+                if (recipeProcessInfo.needsMinPerSlot()) {
+                    int cachedMinPerSlot = minPerSlotCache.getInt(item);
+                    if (cachedMinPerSlot > 0) {
+                        //If we already know how much the recipe needs per slot for this item, make use of it
+                        recipeProcessInfo.setMinPerSlot(cachedMinPerSlot);
+                    } else if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                        //If we don't have a lazily initialized min per slot calculation set for it yet
+                        // and our cache is not invalid/out of date due to a reload
+                        CachedRecipe<RECIPE> cachedRecipe = getCachedRecipe(processInfo.process());
+                        if (isCachedRecipeValid(cachedRecipe, inputStack)) {
+                            // And our current process has a cached recipe then set the lazily initialized per slot value
+                            // Note: If something goes wrong, and we end up with zero as how much we need as an input
+                            // we just bump the value up to one to make sure we properly handle it
+                            recipeProcessInfo.lazyMinPerSlot = () -> cacheMinPerSlot(item, getNeededInput(cachedRecipe.getRecipe(), inputStack));
+                        }
                     }
                 }
             }
@@ -549,7 +699,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         }
         for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
             RecipeProcessInfo recipeProcessInfo = entry.getValue();
-            if (recipeProcessInfo.lazyMinPerSlot == null) {
+            if (recipeProcessInfo.needsMinPerSlot()) {
                 //If we don't have a lazy initializer for our minPerSlot setup, that means that there is
                 // no valid cached recipe for any of the slots of this type currently, so we want to try and
                 // get the recipe we will have for the first slot, once we end up with more items in the stack
@@ -563,7 +713,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
                     //Try getting a recipe for our input with a larger size, and update the cache if we find one
                     RECIPE recipe = getRecipeForInput(processInfo.process(), largerInput, processInfo.outputSlot(), processInfo.secondaryOutputSlot(), true);
                     if (recipe != null) {
-                        return Math.max(1, getNeededInput(recipe, largerInput));
+                        return cacheMinPerSlot(item, getNeededInput(recipe, largerInput));
                     }
                     return 1;
                 };
@@ -575,10 +725,20 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             //Note: Any remaining empty slots are "ignored" as we don't have any
             // spare items to distribute to them
         }
+        for (RecipeProcessInfo recipeProcessInfo : processes.values()) {
+            sortedProcesses += recipeProcessInfo.processes.size();
+        }
         //Distribute items among the slots
         distributeItems(processes);
     }
 
+    private int cacheMinPerSlot(HashedItem item, int neededInput) {
+        int minPerSlot = Math.max(1, neededInput);
+        //Note: We recreate the item as it may be a raw item that is backed by the stack in one of our slots
+        minPerSlotCache.put(item.recreate(), minPerSlot);
+        return minPerSlot;
+    }
+
     private void addEmptySlotsAsTargets(Map<HashedItem, RecipeProcessInfo> processes, List<ProcessInfo> emptyProcesses) {
         for (Entry<HashedItem, RecipeProcessInfo> entry : processes.entrySet()) {
             RecipeProcessInfo recipeProcessInfo = entry.getValue();
@@ -729,9 +889,19 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         private final List<ProcessInfo> processes = new ArrayList<>();
         @Nullable
         private IntSupplier lazyMinPerSlot;
+        private boolean hasMinPerSlot;
         private int minPerSlot = 1;
         private int totalCount;
 
+        public boolean needsMinPerSlot() {
+            return !hasMinPerSlot && lazyMinPerSlot == null;
+        }
+
+        public void setMinPerSlot(int minPerSlot) {
+            this.minPerSlot = minPerSlot;
+            this.hasMinPerSlot = true;
+        }
+
         public int getMinPerSlot() {
             if (lazyMinPerSlot != null) {
                 //Get the value lazily
@@ -54,4 +54,13 @@ public abstract class TileEntityConfigurableMachine extends TileEntityMekanism i
             ejectorComponent.tickServer();
         }
     }
+
+    @Override
+    protected void onDeferredUpdateServer() {
+        super.onDeferredUpdateServer();
+        //Keep ejecting while deferred, as we may be idle because our outputs are full
+        if (ejectorComponent != null) {
+            ejectorComponent.tickServer();
+        }
+    }
 }
\ No newline at end of file
@@ -406,7 +406,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         }
     }
 
-    @ComputerMethod(restriction = MethodRestriction.MULTIBLOCK)
+    @ComputerMethod(restriction = MethodRestriction.MULTIBLOCK, cacheable = true)
     boolean isFormed() {
         return getMultiblock().isFormed();
     }
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import mekanism.api.IContentsListener;
+import mekanism.api.Upgrade;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -68,6 +69,38 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return new RecipeCacheLookupMonitor<>(this);
     }
 
+    @Override
+    protected boolean canDeferTick() {
+        return super.canDeferTick() || recipeCacheLookupMonitor.isIdle();
+    }
+
+    @Override
+    public boolean canRecipeProcessingSleep() {
+        return true;
+    }
+
+    @Override
+    protected void onUpdateServer() {
+        super.onUpdateServer();
+        if (!playersUsing.isEmpty()) {
+            //Keep processing while the gui is open so that the displayed recipe errors get rechecked
+            recipeCacheLookupMonitor.wakeUp();
+        }
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        //Outputs and energy only mark the tile as changed rather than notifying the recipe cache, but they may let a stalled recipe continue
+        recipeCacheLookupMonitor.wakeUp();
+    }
+
+    @Override
+    public void recalculateUpgrades(Upgrade upgrade) {
+        super.recalculateUpgrades(upgrade);
+        recipeCacheLookupMonitor.wakeUp();
+    }
+
     protected IContentsListener getRecipeCacheSaveOnlyListener() {
         //If we don't support comparators we can just skip having a special one that only marks for save as our
         // setChanged won't actually do anything so there is no reason to bother creating a save only listener
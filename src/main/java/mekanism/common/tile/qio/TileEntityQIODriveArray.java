@@ -13,6 +13,7 @@ import mekanism.common.capabilities.holder.slot.InventorySlotHelper;
 import mekanism.common.content.qio.IQIODriveHolder;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOFrequencySnapshot;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.slot.QIODriveSlot;
@@ -160,36 +161,41 @@ public class TileEntityQIODriveArray extends TileEntityQIOComponent implements I
         return DriveStatus.byIndexStatic(driveStatus[slot]);
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    //Note: The frequency's contents are read from a snapshot so that these methods can be answered without waiting for the main thread
+    private QIOFrequencySnapshot computerGetSnapshot() throws ComputerException {
+        return computerGetFrequency().getSnapshot();
+    }
+
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemCount() throws ComputerException {
-        return computerGetFrequency().getTotalItemCount();
+        return computerGetSnapshot().getTotalItemCount();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemCapacity() throws ComputerException {
-        return computerGetFrequency().getTotalItemCountCapacity();
+        return computerGetSnapshot().getTotalItemCountCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     double getFrequencyItemPercentage() throws ComputerException {
-        QIOFrequency frequency = computerGetFrequency();
-        return frequency.getTotalItemCount() / (double) frequency.getTotalItemCountCapacity();
+        QIOFrequencySnapshot snapshot = computerGetSnapshot();
+        return snapshot.getTotalItemCount() / (double) snapshot.getTotalItemCountCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemTypeCount() throws ComputerException {
-        return computerGetFrequency().getTotalItemTypes(false);
+        return computerGetSnapshot().getTotalItemTypes();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     long getFrequencyItemTypeCapacity() throws ComputerException {
-        return computerGetFrequency().getTotalItemTypeCapacity();
+        return computerGetSnapshot().getTotalItemTypeCapacity();
     }
 
-    @ComputerMethod(methodDescription = "Requires a frequency to be selected")
+    @ComputerMethod(methodDescription = "Requires a frequency to be selected", threadSafe = true)
     double getFrequencyItemTypePercentage() throws ComputerException {
-        QIOFrequency frequency = computerGetFrequency();
-        return frequency.getTotalItemTypes(false) / (double) frequency.getTotalItemTypeCapacity();
+        QIOFrequencySnapshot snapshot = computerGetSnapshot();
+        return snapshot.getTotalItemTypes() / (double) snapshot.getTotalItemTypeCapacity();
     }
     //End methods IComputerTile
 
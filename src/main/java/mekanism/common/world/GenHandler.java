@@ -18,7 +18,6 @@ import net.minecraft.core.SectionPos;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.WorldGenLevel;
@@ -39,7 +38,7 @@ public class GenHandler {
     }
 
     @Nullable
-    private static List<MekFeature> cachedFeatures;
+    private static volatile List<MekFeature> cachedFeatures;
 
     /**
      * Call to clear the cached holder lookup of placed features.
@@ -51,15 +50,15 @@ public class GenHandler {
     /**
      * @return {@code true} if some retro-generation happened.
      *
-     * @apiNote Only call this method if the chunk at the given position is loaded.
+     * @apiNote Only call this method if the chunk at the given position and its neighbors are available in the given world. This may be called off the server thread as
+     * long as the world is not backed by the server's level, for example when given a {@link net.minecraft.server.level.WorldGenRegion}.
      * @implNote Adapted from {@link ChunkGenerator#applyBiomeDecoration(WorldGenLevel, ChunkAccess, StructureManager)}.
      */
-    public static boolean generate(ServerLevel world, ChunkPos chunkPos) {
+    public static boolean generate(WorldGenLevel world, ChunkGenerator chunkGenerator, ChunkPos chunkPos) {
         boolean generated = false;
         if (!SharedConstants.debugVoidTerrain(chunkPos)) {
             SectionPos sectionPos = SectionPos.of(chunkPos, world.getMinSection());
             BlockPos blockPos = sectionPos.origin();
-            ChunkGenerator chunkGenerator = world.getChunkSource().getGenerator();
             WorldgenRandom random = new WorldgenRandom(new XoroshiroRandomSource(RandomSupport.generateUniqueSeed()));
             long decorationSeed = random.setDecorationSeed(world.getSeed(), blockPos.getX(), blockPos.getZ());
             int decorationStep = GenerationStep.Decoration.UNDERGROUND_ORES.ordinal() - 1;
@@ -96,9 +95,11 @@ public class GenHandler {
     }
 
     private static List<MekFeature> getMekanismFeatures(RegistryAccess registryAccess) {
+        List<MekFeature> cachedFeatures = GenHandler.cachedFeatures;
         if (cachedFeatures != null) {
             return cachedFeatures;
         }
+        //Note: We build the list locally before publishing it as this may be called from multiple retrogen planning threads at once
         cachedFeatures = new ArrayList<>();
         Registry<PlacedFeature> placedFeatures = registryAccess.registryOrThrow(Registries.PLACED_FEATURE);
         for (OreType type : EnumUtils.ORE_TYPES) {
@@ -114,6 +115,7 @@ public class GenHandler {
         if (saltFeature != null) {
             cachedFeatures.add(saltFeature);
         }
+        GenHandler.cachedFeatures = cachedFeatures;
         return cachedFeatures;
     }
 
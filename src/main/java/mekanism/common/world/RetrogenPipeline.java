@@ -0,0 +1,324 @@
+package mekanism.common.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.common.Mekanism;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.ticks.ProtoChunkTicks;
+
+/**
+ * Retrogens the chunks of a single dimension by planning the placement of our features on worker threads against snapshots of the chunks, and then applying the
+ * planned block changes on the server thread in batches.
+ *
+ * @implNote Block entities, scheduled ticks, and post-processing marked by features during planning are discarded, as none of our features make use of them.
+ */
+@NothingNullByDefault
+public class RetrogenPipeline {
+
+    private static final int PLANNING_THREADS = Mth.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, 4);
+    private static final ExecutorService PLANNING_EXECUTOR = Executors.newFixedThreadPool(PLANNING_THREADS, new ThreadFactoryBuilder()
+          .setNameFormat("Mekanism Retrogen Planner %d")
+          .setDaemon(true)
+          .build());
+    /**
+     * Maximum number of chunks per dimension that may be snapshotted and waiting to be planned at once, so that we don't hold large amounts of chunk data in memory.
+     */
+    private static final int MAX_IN_FLIGHT = 2 * PLANNING_THREADS;
+    /**
+     * Radius of chunks that features may place blocks in, matches the radius vanilla allows during feature generation.
+     */
+    private static final int WRITE_RADIUS = 1;
+    /**
+     * Radius of chunks to snapshot, features may read one chunk further than they can write to, for example when checking if an ore is exposed to air.
+     */
+    private static final int SNAPSHOT_RADIUS = WRITE_RADIUS + 1;
+    private static final int SNAPSHOT_SIZE = 2 * SNAPSHOT_RADIUS + 1;
+
+    private final Queue<RetrogenPlan> planned = new ConcurrentLinkedQueue<>();
+    private int inFlight;
+
+    private long sessionStart;
+    private long chunksRetrogenned;
+    private long blocksChanged;
+    private long blocksSkipped;
+    private long planningTime;
+
+    /**
+     * Applies any planned changes and then snapshots and queues more chunks for planning, until the time budget runs out.
+     *
+     * @param world         World to retrogen.
+     * @param chunksToGen   Queue of chunks that still need to be retrogenned.
+     * @param chunkVersions Versions of the chunks in the world that will be updated as chunks get retrogenned.
+     * @param maxTime       Maximum amount of time in nanoseconds that may be spent on this tick.
+     */
+    public void tick(ServerLevel world, Queue<ChunkPos> chunksToGen, Object2IntMap<ChunkPos> chunkVersions, long maxTime) {
+        long startTime = System.nanoTime();
+        if (isIdle() && !chunksToGen.isEmpty()) {
+            //Starting a new batch of chunks, reset our metrics
+            sessionStart = startTime;
+            chunksRetrogenned = 0;
+            blocksChanged = 0;
+            blocksSkipped = 0;
+            planningTime = 0;
+        }
+        BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        while (System.nanoTime() - startTime < maxTime) {
+            RetrogenPlan plan = planned.poll();
+            if (plan == null) {
+                break;
+            }
+            inFlight--;
+            if (world.getChunkSource().getChunkNow(plan.chunkPos.x, plan.chunkPos.z) == null) {
+                //The chunk was unloaded since we took the snapshot, it was saved with its old version, so it will be queued again when it is next loaded
+                continue;
+            } else if (!plan.isLoaded(world)) {
+                //If any of the chunks the plan changes have been unloaded since we took the snapshot, don't apply any of it so that we don't end up
+                // with only some of the features placed, and instead plan the chunk again
+                chunksToGen.add(plan.chunkPos);
+                continue;
+            }
+            //Note: We apply all the changes of a plan in the same tick, as chunks can only unload between ticks, and plans are small enough that finishing the
+            // plan we are on will not go much over our time budget
+            for (int i = 0, size = plan.size(); i < size; i++) {
+                mutablePos.set(plan.positions.getLong(i));
+                //Only apply the change if the block hasn't been changed since we took the snapshot
+                if (world.getBlockState(mutablePos) == plan.originalStates.get(i)) {
+                    world.setBlock(mutablePos, plan.states.get(i), Block.UPDATE_CLIENTS);
+                    blocksChanged++;
+                } else {
+                    blocksSkipped++;
+                }
+            }
+            if (plan.size() > 0) {
+                Mekanism.logger.info("Regenerating ores and salt at chunk {}", plan.chunkPos);
+            }
+            //Regardless of whether we were able to generate anything in the chunk, now that we have
+            // handled it, update the chunk version. We do this by removing tracking the chunk's
+            // version so that we can just default it to the latest version when saved and free up the
+            // memory as early as possible
+            if (!chunkVersions.isEmpty()) {
+                chunkVersions.removeInt(plan.chunkPos);
+            }
+            chunksRetrogenned++;
+            planningTime += plan.planningTime;
+        }
+        ChunkGenerator chunkGenerator = world.getChunkSource().getGenerator();
+        //Chunks we have copied this tick, as adjacent chunks share most of their neighbors, and the copies can be shared as planning never modifies them
+        Long2ObjectMap<ChunkAccess> copies = new Long2ObjectOpenHashMap<>();
+        while (inFlight < MAX_IN_FLIGHT && System.nanoTime() - startTime < maxTime) {
+            ChunkPos nextChunk = chunksToGen.poll();
+            if (nextChunk == null) {
+                break;
+            }
+            //Ensure the chunk actually exists and is still loaded before trying to retrogen it
+            if (world.getChunkSource().getChunkNow(nextChunk.x, nextChunk.z) != null) {
+                List<ChunkAccess> snapshot = snapshot(world, nextChunk, copies);
+                inFlight++;
+                PLANNING_EXECUTOR.execute(() -> planned.add(plan(world, chunkGenerator, nextChunk, snapshot)));
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if there are no chunks being planned or waiting to be applied.
+     */
+    public boolean isIdle() {
+        return inFlight == 0;
+    }
+
+    public RetrogenStatus getStatus(int queued) {
+        double elapsed = (System.nanoTime() - sessionStart) / 1_000_000_000D;
+        return new RetrogenStatus(queued, inFlight - planned.size(), planned.size(), chunksRetrogenned, blocksChanged, blocksSkipped,
+              chunksRetrogenned == 0 ? 0 : chunksRetrogenned / elapsed, chunksRetrogenned == 0 ? 0 : planningTime / 1_000_000D / chunksRetrogenned);
+    }
+
+    /**
+     * Copies the chunks around the given chunk so that they can be safely read off the server thread.
+     *
+     * @param copies Chunks that have already been copied this tick, that can be reused instead of copying them again.
+     *
+     * @implNote Chunks that are not loaded are represented by empty chunks so that no changes will be planned in them.
+     */
+    private static List<ChunkAccess> snapshot(ServerLevel world, ChunkPos center, Long2ObjectMap<ChunkAccess> copies) {
+        Registry<Biome> biomeRegistry = world.registryAccess().registryOrThrow(Registries.BIOME);
+        List<ChunkAccess> chunks = new ArrayList<>(SNAPSHOT_SIZE * SNAPSHOT_SIZE);
+        //Note: The order of the chunks is important as it matches the order WorldGenRegion expects them in
+        for (int z = center.z - SNAPSHOT_RADIUS; z <= center.z + SNAPSHOT_RADIUS; z++) {
+            for (int x = center.x - SNAPSHOT_RADIUS; x <= center.x + SNAPSHOT_RADIUS; x++) {
+                chunks.add(copies.computeIfAbsent(ChunkPos.asLong(x, z), pos -> {
+                    ChunkPos chunkPos = new ChunkPos(pos);
+                    LevelChunk chunk = world.getChunkSource().getChunkNow(chunkPos.x, chunkPos.z);
+                    if (chunk == null) {
+                        return new ProtoChunk(chunkPos, UpgradeData.EMPTY, null, new ProtoChunkTicks<>(), new ProtoChunkTicks<>(), world, biomeRegistry, null);
+                    }
+                    //The live chunk's biomes may change while we are planning, so we need to copy them
+                    return copy(chunk, world, biomeRegistry, true);
+                }));
+            }
+        }
+        return chunks;
+    }
+
+    private static ProtoChunk copy(ChunkAccess chunk, LevelHeightAccessor heightAccessor, Registry<Biome> biomeRegistry, boolean copyBiomes) {
+        LevelChunkSection[] sourceSections = chunk.getSections();
+        LevelChunkSection[] sections = new LevelChunkSection[sourceSections.length];
+        for (int i = 0; i < sourceSections.length; i++) {
+            PalettedContainerRO<Holder<Biome>> biomes = sourceSections[i].getBiomes();
+            if (copyBiomes && biomes instanceof PalettedContainer<Holder<Biome>> biomeContainer) {
+                biomes = biomeContainer.copy();
+            }
+            sections[i] = new LevelChunkSection(sourceSections[i].getStates().copy(), biomes);
+        }
+        ProtoChunk copy = new ProtoChunk(chunk.getPos(), UpgradeData.EMPTY, sections, new ProtoChunkTicks<>(), new ProtoChunkTicks<>(), heightAccessor, biomeRegistry, null);
+        for (Map.Entry<Heightmap.Types, Heightmap> entry : chunk.getHeightmaps()) {
+            copy.setHeightmap(entry.getKey(), entry.getValue().getRawData());
+        }
+        return copy;
+    }
+
+    /**
+     * Places our features in a copy of the snapshot and records which blocks they changed.
+     *
+     * @implNote Runs on a planning thread.
+     */
+    private static RetrogenPlan plan(ServerLevel world, ChunkGenerator chunkGenerator, ChunkPos chunkPos, List<ChunkAccess> snapshot) {
+        long start = System.nanoTime();
+        RetrogenPlan plan = new RetrogenPlan(chunkPos);
+        try {
+            Registry<Biome> biomeRegistry = world.registryAccess().registryOrThrow(Registries.BIOME);
+            List<ChunkAccess> chunks = new ArrayList<>(snapshot.size());
+            for (ChunkAccess chunk : snapshot) {
+                //Only copy the chunks that we can write to, so that we can compare them against the original snapshot. We don't need to copy
+                // the biomes as features don't modify them, and the snapshot's biomes are already a copy
+                chunks.add(isWritable(chunkPos, chunk.getPos()) ? copy(chunk, world, biomeRegistry, false) : chunk);
+            }
+            WorldGenRegion region = new WorldGenRegion(world, chunks, ChunkStatus.FEATURES, WRITE_RADIUS);
+            if (GenHandler.generate(region, chunkGenerator, chunkPos)) {
+                for (int i = 0, size = snapshot.size(); i < size; i++) {
+                    ChunkAccess original = snapshot.get(i);
+                    if (isWritable(chunkPos, original.getPos())) {
+                        plan.addChanges(original, chunks.get(i));
+                    }
+                }
+            }
+        } catch (Exception e) {
+            Mekanism.logger.error("Failed to plan retrogen for chunk {}", chunkPos, e);
+        }
+        plan.planningTime = System.nanoTime() - start;
+        return plan;
+    }
+
+    private static boolean isWritable(ChunkPos center, ChunkPos pos) {
+        return Math.abs(pos.x - center.x) <= WRITE_RADIUS && Math.abs(pos.z - center.z) <= WRITE_RADIUS;
+    }
+
+    private static class RetrogenPlan {
+
+        private final ChunkPos chunkPos;
+        private final LongSet changedChunks = new LongOpenHashSet();
+        private final LongList positions = new LongArrayList();
+        private final List<BlockState> originalStates = new ArrayList<>();
+        private final List<BlockState> states = new ArrayList<>();
+        private long planningTime;
+
+        private RetrogenPlan(ChunkPos chunkPos) {
+            this.chunkPos = chunkPos;
+        }
+
+        private int size() {
+            return positions.size();
+        }
+
+        /**
+         * @return {@code true} if all the chunks this plan changes are loaded.
+         */
+        private boolean isLoaded(ServerLevel world) {
+            for (LongIterator iterator = changedChunks.iterator(); iterator.hasNext(); ) {
+                long chunk = iterator.nextLong();
+                if (world.getChunkSource().getChunkNow(ChunkPos.getX(chunk), ChunkPos.getZ(chunk)) == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void addChanges(ChunkAccess original, ChunkAccess changed) {
+            LevelChunkSection[] originalSections = original.getSections();
+            LevelChunkSection[] changedSections = changed.getSections();
+            ChunkPos pos = original.getPos();
+            for (int sectionIndex = 0; sectionIndex < originalSections.length; sectionIndex++) {
+                LevelChunkSection originalSection = originalSections[sectionIndex];
+                LevelChunkSection changedSection = changedSections[sectionIndex];
+                if (originalSection.hasOnlyAir() && changedSection.hasOnlyAir()) {
+                    continue;
+                }
+                int minY = SectionPos.sectionToBlockCoord(original.getSectionYFromSectionIndex(sectionIndex));
+                for (int y = 0; y < SectionPos.SECTION_SIZE; y++) {
+                    for (int z = 0; z < SectionPos.SECTION_SIZE; z++) {
+                        for (int x = 0; x < SectionPos.SECTION_SIZE; x++) {
+                            BlockState originalState = originalSection.getBlockState(x, y, z);
+                            BlockState state = changedSection.getBlockState(x, y, z);
+                            if (originalState != state) {
+                                changedChunks.add(pos.toLong());
+                                positions.add(BlockPos.asLong(pos.getBlockX(x), minY + y, pos.getBlockZ(z)));
+                                originalStates.add(originalState);
+                                states.add(state);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param queued            Number of chunks waiting to be snapshotted.
+     * @param planning          Number of chunks being planned.
+     * @param pendingApply      Number of planned chunks waiting to be applied.
+     * @param chunksRetrogenned Number of chunks retrogenned since retrogen last started.
+     * @param blocksChanged     Number of blocks changed since retrogen last started.
+     * @param blocksSkipped     Number of planned changes that were skipped as the block was changed after the chunk was snapshotted.
+     * @param chunksPerSecond   Average rate chunks have been retrogenned at since retrogen last started.
+     * @param planningMillis    Average milliseconds spent planning each chunk on the planning threads.
+     */
+    public record RetrogenStatus(int queued, int planning, int pendingApply, long chunksRetrogenned, long blocksChanged, long blocksSkipped, double chunksPerSecond,
+                                 double planningMillis) {
+    }
+}
@@ -0,0 +1,73 @@
+package mekanism.common.content.network;
+
+import mekanism.api.heat.HeatAPI;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the heat network solver")
+class HeatNetworkSolverTest {
+
+    private static final double CAPACITY = 10;
+    private static final double CONDUCTION = 5;
+    private static final double INSULATION = 0;
+    private static final double DELTA = 1e-9;
+
+    /**
+     * Creates a solver with the given number of nodes, with each node linked in both directions to the next node.
+     */
+    public static HeatNetworkSolver createLine(int size) {
+        HeatNetworkSolver solver = new HeatNetworkSolver(size);
+        for (int node = 0; node < size; node++) {
+            solver.setNode(node, CAPACITY, CONDUCTION, INSULATION);
+            solver.setTemperature(node, HeatAPI.AMBIENT_TEMP);
+            if (node > 0) {
+                //Link down to the previous node and up from the previous node to us
+                solver.link(node, 0, node - 1);
+                solver.link(node - 1, 1, node);
+            }
+        }
+        return solver;
+    }
+
+    @Test
+    @DisplayName("Test a network at ambient temperature doesn't transfer any heat")
+    void testAmbientNetwork() {
+        HeatNetworkSolver solver = createLine(10_000);
+        solver.step();
+        for (int node = 0; node < solver.size(); node++) {
+            Assertions.assertEquals(0, solver.getHeatDelta(node));
+        }
+        Assertions.assertEquals(0, solver.getAdjacentTransfer());
+        Assertions.assertEquals(0, solver.getEnvironmentTransfer());
+    }
+
+    @Test
+    @DisplayName("Test heat transfers from a hot node to its neighbor")
+    void testAdjacentTransfer() {
+        HeatNetworkSolver solver = createLine(2);
+        double temperature = HeatAPI.AMBIENT_TEMP + 1_000;
+        solver.setTemperature(0, temperature);
+        solver.step();
+        double tempToTransfer = (temperature - HeatAPI.AMBIENT_TEMP) / (CONDUCTION + CONDUCTION);
+        double tempToEnvironment = (temperature - HeatAPI.AMBIENT_TEMP) / (HeatAPI.AIR_INVERSE_COEFFICIENT + INSULATION + CONDUCTION);
+        Assertions.assertEquals(tempToTransfer * CAPACITY, solver.getHeatDelta(1), DELTA);
+        Assertions.assertEquals(-(tempToTransfer + HeatNetworkSolver.SIDES * tempToEnvironment) * CAPACITY, solver.getHeatDelta(0), DELTA);
+        Assertions.assertEquals(HeatNetworkSolver.SIDES * tempToEnvironment, solver.getEnvironmentTransfer(), DELTA);
+        //Transfers between conductors of heat above ambient don't count towards the adjacent transfer
+        Assertions.assertEquals(0, solver.getAdjacentTransfer());
+    }
+
+    @Test
+    @DisplayName("Test external heat is added on top of the solved transfers")
+    void testExternalHeat() {
+        HeatNetworkSolver solver = createLine(3);
+        solver.step();
+        solver.addHeat(1, 50);
+        Assertions.assertEquals(0, solver.getHeatDelta(0));
+        Assertions.assertEquals(50, solver.getHeatDelta(1));
+        //Stepping again resets the deltas
+        solver.step();
+        Assertions.assertEquals(0, solver.getHeatDelta(1));
+    }
+}
@@ -47,4 +47,31 @@ class WildcardMatcherTest {
         Assertions.assertFalse(WildcardMatcher.matches("*#*", "asudnfaiasifa"));
         Assertions.assertFalse(WildcardMatcher.matches("*test*tester", "29342398test289289tester3"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test backtracking after partial matches")
+    void testBacktracking() {
+        Assertions.assertTrue(WildcardMatcher.matches("*tes?", "atestbtest"));
+        Assertions.assertTrue(WildcardMatcher.matches("*te#", "te1ate2"));
+        Assertions.assertTrue(WildcardMatcher.matches("*a?c", "abcabc"));
+        Assertions.assertTrue(WildcardMatcher.matches("a*b?d", "abxbcbyd"));
+        Assertions.assertTrue(WildcardMatcher.matches("*test*tester", "29342398test289289tester"));
+        Assertions.assertTrue(WildcardMatcher.matches("forge:*/*ium", "forge:ores/osmium"));
+        Assertions.assertFalse(WildcardMatcher.matches("*tes?", "atestbtes"));
+        Assertions.assertFalse(WildcardMatcher.matches("*te#", "te1ate"));
+        Assertions.assertFalse(WildcardMatcher.matches("forge:*/*ium", "forge:ores_osmium"));
+    }
+
+    @Test
+    @DisplayName("Test compiled wildcards")
+    void testCompiledWildcards() {
+        Assertions.assertSame(WildcardMatcher.compile("forge:ores/*"), WildcardMatcher.compile("forge:ores/*"));
+        Assertions.assertTrue(WildcardMatcher.compile("forge:ores/*").test("forge:ores/osmium"));
+        Assertions.assertTrue(WildcardMatcher.compile("*/osmium").test("forge:ores/osmium"));
+        Assertions.assertTrue(WildcardMatcher.compile("*ores*").test("forge:ores/osmium"));
+        Assertions.assertTrue(WildcardMatcher.compile("FORGE:ORES/OSMIUM").test("forge:ores/osmium"));
+        Assertions.assertTrue(WildcardMatcher.compile("*test").test("atestbtest"));
+        Assertions.assertFalse(WildcardMatcher.compile("forge:ores/*").test("forge:ingots/osmium"));
+        Assertions.assertFalse(WildcardMatcher.compile("*/osmium").test("forge:ores/osmium_block"));
+    }
+}
@@ -0,0 +1,45 @@
+package mekanism.common.lib.collection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test BoundedCache implementation")
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Test values are only computed once")
+    void testComputeOnce() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        AtomicInteger computations = new AtomicInteger();
+        Assertions.assertEquals(4, cache.computeIfAbsent("test", key -> computations.incrementAndGet() + key.length() - 1));
+        Assertions.assertEquals(4, cache.computeIfAbsent("test", key -> computations.incrementAndGet()));
+        Assertions.assertEquals(1, computations.get());
+    }
+
+    @Test
+    @DisplayName("Test the cache never grows past its maximum size")
+    void testBounded() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(4);
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(i, key -> key);
+        }
+        Assertions.assertEquals(4, cache.size());
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Test the least recently used entry is evicted")
+    void testEvictsLeastRecentlyUsed() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(2);
+        cache.computeIfAbsent(1, key -> key);
+        cache.computeIfAbsent(2, key -> key);
+        //Use the first entry so that the second one is the least recently used
+        cache.computeIfAbsent(1, key -> -key);
+        cache.computeIfAbsent(3, key -> key);
+        Assertions.assertEquals(1, cache.computeIfAbsent(1, key -> -key));
+        Assertions.assertEquals(-2, cache.computeIfAbsent(2, key -> -key));
+    }
+}